@@ -0,0 +1,48 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.common.Paging;
+import ru.practicum.shareit.common.exeptions.UnsupportedStatusException;
+
+import java.util.Map;
+
+/**
+ * Server paths and request checks shared by the servlet and reactive booking gateways.
+ */
+final class BookingApi {
+    static final String PREFIX = "/bookings";
+    static final String BATCH = "/batch";
+    static final String OWNER = "/owner";
+    static final String OWNER_BATCH = "/owner/batch";
+    static final String OWNER_EXPORT = "/owner/export";
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String BY_STATE = "?state={state}&" + Paging.QUERY;
+    private static final String BY_STATE_AFTER_CURSOR = "?state={state}&cursor={cursor}&size={size}";
+
+    private BookingApi() {
+    }
+
+    static String byState(String path, String cursor) {
+        return path + (cursor == null ? BY_STATE : BY_STATE_AFTER_CURSOR);
+    }
+
+    static Map<String, Object> byStateParameters(String state, int from, int size, String cursor) {
+        if (cursor != null) {
+            return Map.of(
+                    "state", state,
+                    "cursor", cursor,
+                    "size", size
+            );
+        }
+        return Map.of(
+                "state", state,
+                "from", from,
+                "size", size
+        );
+    }
+
+    static StateStatus checkState(String state) {
+        return StateStatus.from(state)
+                .orElseThrow(() -> new UnsupportedStatusException("Unknown state: " + state));
+    }
+}
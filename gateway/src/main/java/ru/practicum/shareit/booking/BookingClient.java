@@ -1,26 +1,29 @@
 package ru.practicum.shareit.booking;
 
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.HttpClientConfig;
 
-import java.util.Map;
+import java.util.List;
 
 @Service
+@Profile("!reactive")
 public class BookingClient extends BaseClient {
-    private static final String API_PREFIX = "/bookings";
-
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         CloseableHttpClient httpClient) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + BookingApi.PREFIX))
+                        .requestFactory(() -> HttpClientConfig.requestFactory(httpClient, true))
                         .build()
         );
     }
@@ -29,29 +32,33 @@ public class BookingClient extends BaseClient {
         return post("", userId, bookingDtoIn);
     }
 
+    public ResponseEntity<Object> createAll(long userId, List<BookingDtoIn> bookingDtoIns) {
+        return post(BookingApi.BATCH, userId, bookingDtoIns);
+    }
+
     public ResponseEntity<Object> update(long userId, long bookingId, Boolean approved) {
         return patch("/" + bookingId + "?approved=" + approved, userId);
     }
 
+    public ResponseEntity<Object> updateAll(long userId, List<BookingApprovalDtoIn> approvals) {
+        return patch(BookingApi.OWNER_BATCH, userId, approvals);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportByOwner(long userId) {
+        return stream(BookingApi.OWNER_EXPORT, userId, null);
+    }
+
     public ResponseEntity<Object> getById(long bookingId, long userId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllByBooker(long userId, String state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getAllByBooker(long userId, String state, int from, int size, String cursor) {
+        return get(BookingApi.byState("", cursor), userId,
+                BookingApi.byStateParameters(state, from, size, cursor));
     }
 
-    public ResponseEntity<Object> getAllByOwner(long userId, String state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getAllByOwner(long userId, String state, int from, int size, String cursor) {
+        return get(BookingApi.byState(BookingApi.OWNER, cursor), userId,
+                BookingApi.byStateParameters(state, from, size, cursor));
     }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -13,15 +14,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import ru.practicum.shareit.common.exeptions.UnsupportedStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
 
 @Controller
+@Profile("!reactive")
 @RequestMapping(path = "/bookings")
 @Validated
 @Slf4j
@@ -36,6 +41,14 @@ public class BookingController {
         return bookingClient.create(userId, bookingDtoIn);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                            @RequestBody @NotEmpty @Size(max = BookingApi.MAX_BATCH_SIZE)
+                                            List<@Valid BookingDtoIn> bookingDtoIns) {
+        log.info("Creating {} bookings, userId {}", bookingDtoIns.size(), userId);
+        return bookingClient.createAll(userId, bookingDtoIns);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Object> update(@RequestHeader(HEADER_USER_ID) long userId,
                              @PathVariable long bookingId,
@@ -44,6 +57,20 @@ public class BookingController {
         return bookingClient.update(userId, bookingId, approved);
     }
 
+    @PatchMapping("/owner/batch")
+    public ResponseEntity<Object> updateAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                            @RequestBody @NotEmpty @Size(max = BookingApi.MAX_BATCH_SIZE)
+                                            List<@Valid BookingApprovalDtoIn> approvals) {
+        log.info("Update {} bookings userId {} ", approvals.size(), userId);
+        return bookingClient.updateAll(userId, approvals);
+    }
+
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportByOwner(@RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Export bookings owner userId {}", userId);
+        return bookingClient.exportByOwner(userId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getById(@RequestHeader(HEADER_USER_ID) long userId,
                               @PathVariable(required = false) long bookingId) {
@@ -55,21 +82,23 @@ public class BookingController {
     public ResponseEntity<Object> getAllByBooker(@RequestHeader(HEADER_USER_ID) long userId,
                                                  @RequestParam(defaultValue = "ALL", required = false) String state,
                                                  @PositiveOrZero @RequestParam(defaultValue = "0", required = false) int from,
-                                                 @Positive @RequestParam(defaultValue = "10", required = false) int size) {
-        StateStatus stateParam = StateStatus.from(state)
-                .orElseThrow(() -> new UnsupportedStatusException("Unknown state: " + state));
-        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getAllByBooker(userId, state, from, size);
+                                                 @Positive @RequestParam(defaultValue = "10", required = false) int size,
+                                                 @RequestParam(required = false) String cursor) {
+        StateStatus stateParam = BookingApi.checkState(state);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size,
+                cursor);
+        return bookingClient.getAllByBooker(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllByOwner(@RequestHeader(HEADER_USER_ID) Long userId,
                                                 @RequestParam(defaultValue = "ALL", required = false) String state,
                                                 @PositiveOrZero @RequestParam(defaultValue = "0", required = false) int from,
-                                                @Positive @RequestParam(defaultValue = "10", required = false) int size) {
-        StateStatus stateParam = StateStatus.from(state)
-                .orElseThrow(() -> new UnsupportedStatusException("Unknown state: " + state));
-        log.info("Get booking owner with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getAllByOwner(userId, state, from, size);
+                                                @Positive @RequestParam(defaultValue = "10", required = false) int size,
+                                                @RequestParam(required = false) String cursor) {
+        StateStatus stateParam = BookingApi.checkState(state);
+        log.info("Get booking owner with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from,
+                size, cursor);
+        return bookingClient.getAllByOwner(userId, state, from, size, cursor);
     }
 }
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.util.List;
+
+@Service
+@Profile("reactive")
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    @Autowired
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + BookingApi.PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(long userId, BookingDtoIn bookingDtoIn) {
+        return post("", userId, bookingDtoIn);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createAll(long userId, List<BookingDtoIn> bookingDtoIns) {
+        return post(BookingApi.BATCH, userId, bookingDtoIns);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(long userId, long bookingId, Boolean approved) {
+        return patch("/" + bookingId + "?approved=" + approved, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateAll(long userId, List<BookingApprovalDtoIn> approvals) {
+        return patch(BookingApi.OWNER_BATCH, userId, approvals);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByOwner(long userId) {
+        return get(BookingApi.OWNER_EXPORT, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(long bookingId, long userId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByBooker(long userId, String state, int from, int size,
+                                                                 String cursor) {
+        return get(BookingApi.byState("", cursor), userId,
+                BookingApi.byStateParameters(state, from, size, cursor));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByOwner(long userId, String state, int from, int size,
+                                                                String cursor) {
+        return get(BookingApi.byState(BookingApi.OWNER, cursor), userId,
+                BookingApi.byStateParameters(state, from, size, cursor));
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+
+@Controller
+@Profile("reactive")
+@RequestMapping(path = "/bookings")
+@Validated
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@RequestHeader(HEADER_USER_ID) long userId,
+                                                         @RequestBody @Valid BookingDtoIn bookingDtoIn) {
+        log.info("Creating booking {}, userId {}", bookingDtoIn, userId);
+        return bookingClient.create(userId, bookingDtoIn);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                                            @RequestBody @NotEmpty @Size(max = BookingApi.MAX_BATCH_SIZE)
+                                                            List<@Valid BookingDtoIn> bookingDtoIns) {
+        log.info("Creating {} bookings, userId {}", bookingDtoIns.size(), userId);
+        return bookingClient.createAll(userId, bookingDtoIns);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@RequestHeader(HEADER_USER_ID) long userId,
+                                                         @PathVariable long bookingId,
+                                                         @RequestParam Boolean approved) {
+        log.info("Update booking ID {} userId {} ", bookingId, userId);
+        return bookingClient.update(userId, bookingId, approved);
+    }
+
+    @PatchMapping("/owner/batch")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                                            @RequestBody @NotEmpty @Size(max = BookingApi.MAX_BATCH_SIZE)
+                                                            List<@Valid BookingApprovalDtoIn> approvals) {
+        log.info("Update {} bookings userId {} ", approvals.size(), userId);
+        return bookingClient.updateAll(userId, approvals);
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByOwner(@RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Export bookings owner userId {}", userId);
+        return bookingClient.exportByOwner(userId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(@RequestHeader(HEADER_USER_ID) long userId,
+                                                          @PathVariable(required = false) long bookingId) {
+        log.info("Get BookingDto {} userId {} ", bookingId, userId);
+        return bookingClient.getById(bookingId, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByBooker(@RequestHeader(HEADER_USER_ID) long userId,
+                                                                 @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                 @PositiveOrZero @RequestParam(defaultValue = "0", required = false) int from,
+                                                                 @Positive @RequestParam(defaultValue = "10", required = false) int size,
+                                                                 @RequestParam(required = false) String cursor) {
+        StateStatus stateParam = BookingApi.checkState(state);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size,
+                cursor);
+        return bookingClient.getAllByBooker(userId, state, from, size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByOwner(@RequestHeader(HEADER_USER_ID) Long userId,
+                                                                @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                @PositiveOrZero @RequestParam(defaultValue = "0", required = false) int from,
+                                                                @Positive @RequestParam(defaultValue = "10", required = false) int size,
+                                                                @RequestParam(required = false) String cursor) {
+        StateStatus stateParam = BookingApi.checkState(state);
+        log.info("Get booking owner with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from,
+                size, cursor);
+        return bookingClient.getAllByOwner(userId, state, from, size, cursor);
+    }
+}
@@ -1,20 +1,45 @@
 package ru.practicum.shareit.client;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public class BaseClient {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade");
+
     protected final RestTemplate rest;
 
+    @Value("${shareit-server.passthrough:true}")
+    private boolean passthrough;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
     public BaseClient(RestTemplate rest) {
         this.rest = rest;
     }
@@ -28,7 +53,15 @@ public class BaseClient {
     }
 
     protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        if (!requestCoalescer.isEnabled()) {
+            return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        }
+        URI uri = expand(path, parameters);
+        String key = userId != null ? "GET " + uri + " " + userId : "GET " + uri;
+        HttpEntity<Object> requestEntity = new HttpEntity<>(defaultHeaders(userId));
+        return requestCoalescer.execute(key, () -> passthrough
+                ? sendAndRelayResponse(HttpMethod.GET, uri, requestEntity, true)
+                : exchange(HttpMethod.GET, uri, requestEntity));
     }
 
     protected <T> ResponseEntity<Object> post(String path, T body) {
@@ -79,22 +112,133 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<StreamingResponseBody> stream(String path, Long userId,
+                                                           @Nullable Map<String, Object> parameters) {
+        URI uri = rest.getUriTemplateHandler().expand(path, parameters != null ? parameters : Map.of());
+        ClientHttpResponse response;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, HttpMethod.GET);
+            request.getHeaders().setAccept(List.of(MediaType.ALL));
+            if (userId != null) {
+                request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+            }
+            response = request.execute();
+        } catch (IOException e) {
+            throw new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + e.getMessage(), e);
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder;
+        try {
+            responseBuilder = ResponseEntity.status(response.getRawStatusCode())
+                    .headers(relayedHeaders(response.getHeaders()));
+        } catch (IOException e) {
+            response.close();
+            throw new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + e.getMessage(), e);
+        }
+        return responseBuilder.body(out -> {
+            try (response) {
+                StreamUtils.copy(response.getBody(), out);
+            }
+        });
+    }
+
+    protected ResponseEntity<Object> upload(String path, Long userId, MediaType contentType, InputStream body) {
+        URI uri = rest.getUriTemplateHandler().expand(path);
+        try {
+            ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, HttpMethod.POST);
+            request.getHeaders().setContentType(contentType);
+            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+            if (userId != null) {
+                request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+            }
+            if (request instanceof StreamingHttpOutputMessage) {
+                ((StreamingHttpOutputMessage) request).setBody(out -> StreamUtils.copy(body, out));
+            } else {
+                StreamUtils.copy(body, request.getBody());
+            }
+            try (ClientHttpResponse response = request.execute()) {
+                return ResponseEntity.status(response.getRawStatusCode())
+                        .headers(relayedHeaders(response.getHeaders()))
+                        .body(StreamUtils.copyToByteArray(response.getBody()));
+            }
+        } catch (IOException e) {
+            throw new ResourceAccessException("I/O error on POST request for \"" + uri + "\": " + e.getMessage(), e);
+        }
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        URI uri = expand(path, parameters);
+        return passthrough ? sendAndRelayResponse(method, uri, requestEntity, false)
+                : exchange(method, uri, requestEntity);
+    }
 
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, URI uri, HttpEntity<T> requestEntity) {
         ResponseEntity<Object> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            shareitServerResponse = rest.exchange(uri, method, requestEntity, Object.class);
         } catch (HttpStatusCodeException e) {
             return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private URI expand(String path, @Nullable Map<String, Object> parameters) {
+        return parameters != null ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path);
+    }
+
+    private <T> ResponseEntity<Object> sendAndRelayResponse(HttpMethod method, URI uri, HttpEntity<T> requestEntity,
+                                                            boolean buffered) {
+        ClientHttpResponse response;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, method);
+            rest.httpEntityCallback(requestEntity).doWithRequest(request);
+            response = request.execute();
+        } catch (IOException e) {
+            throw new ResourceAccessException("I/O error on " + method + " request for \"" + uri + "\": " +
+                    e.getMessage(), e);
+        }
+
+        try {
+            ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getRawStatusCode())
+                    .headers(relayedHeaders(response.getHeaders()));
+            if (response.getHeaders().getContentLength() == 0) {
+                response.close();
+                return responseBuilder.build();
+            }
+            if (buffered) {
+                try (response) {
+                    return responseBuilder.body(StreamUtils.copyToByteArray(response.getBody()));
+                }
+            }
+            InputStream responseBody = new FilterInputStream(response.getBody()) {
+                @Override
+                public void close() throws IOException {
+                    try (response) {
+                        super.close();
+                    }
+                }
+            };
+            return responseBuilder.body(new InputStreamResource(responseBody));
+        } catch (IOException e) {
+            response.close();
+            throw new ResourceAccessException("I/O error on " + method + " request for \"" + uri + "\": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    static HttpHeaders relayedHeaders(HttpHeaders serverHeaders) {
+        Set<String> excluded = new HashSet<>(HOP_BY_HOP_HEADERS);
+        List<String> connectionTokens = serverHeaders.getConnection();
+        connectionTokens.forEach(token -> excluded.add(token.toLowerCase(Locale.ROOT)));
+        HttpHeaders headers = new HttpHeaders();
+        serverHeaders.forEach((name, values) -> {
+            if (!excluded.contains(name.toLowerCase(Locale.ROOT))) headers.addAll(name, values);
+        });
+        return headers;
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
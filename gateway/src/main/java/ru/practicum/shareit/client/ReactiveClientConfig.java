@@ -0,0 +1,62 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveClientConfig {
+    private static final String POOL_NAME = "shareit-server";
+
+    @Value("${shareit-server.pool.max-total:200}")
+    private int maxTotal;
+
+    @Value("${shareit-server.pool.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${shareit-server.pool.read-timeout-ms:30000}")
+    private long readTimeoutMs;
+
+    @Value("${shareit-server.pool.lease-timeout-ms:2000}")
+    private long leaseTimeoutMs;
+
+    @Value("${shareit-server.pool.idle-timeout-seconds:30}")
+    private long idleTimeoutSeconds;
+
+    @Value("${shareit-server.pool.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareItServerConnectionProvider() {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(Duration.ofMillis(leaseTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(Math.min(idleTimeoutSeconds, keepAliveSeconds)))
+                .evictInBackground(Duration.ofSeconds(idleTimeoutSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClientCustomizer shareItServerConnector(ConnectionProvider shareItServerConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(shareItServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@Profile("!reactive")
+public class RequestCoalescer {
+    private static final String METRIC_NAME = "shareit.gateway.coalesced.requests";
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Counter leaderCounter;
+    private final Counter joinedCounter;
+
+    public RequestCoalescer(@Value("${shareit-server.coalesce-gets:true}") boolean enabled,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.leaderCounter = Counter.builder(METRIC_NAME)
+                .description("Gateway GETs that went to the server")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.joinedCounter = Counter.builder(METRIC_NAME)
+                .description("Gateway GETs answered by an identical in-flight request")
+                .tag("result", "joined")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> leaderCall = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlight.putIfAbsent(key, leaderCall);
+        if (inFlightCall != null) {
+            joinedCounter.increment();
+            try {
+                return (T) inFlightCall.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        }
+
+        leaderCounter.increment();
+        try {
+            T result = call.get();
+            leaderCall.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leaderCall.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leaderCall);
+        }
+    }
+}
@@ -2,4 +2,7 @@ package ru.practicum.shareit.common;
 
 public class Constants {
     public static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final int ITEM_NAME_MAX_LENGTH = 255;
+    public static final int ITEM_DESCRIPTION_MAX_LENGTH = 500;
 }
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.common;
+
+import java.util.Map;
+
+public final class Paging {
+    public static final String QUERY = "from={from}&size={size}";
+
+    private Paging() {
+    }
+
+    public static Map<String, Object> parameters(int from, int size) {
+        return Map.of(
+                "from", from,
+                "size", size
+        );
+    }
+}
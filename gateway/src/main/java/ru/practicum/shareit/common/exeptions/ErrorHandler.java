@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import javax.validation.ConstraintViolationException;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
@@ -25,6 +26,16 @@ public class ErrorHandler {
         return new ErrorResponse(e.getMessage(), stackTrace);
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handle(final ConstraintViolationException e) throws UnsupportedEncodingException {
+        log.error("400 {}", e.getMessage(), e);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        e.printStackTrace(new PrintStream(out, true, "UTF-8"));
+        String stackTrace = out.toString(Charset.forName("UTF-8"));
+        return new ErrorResponse(e.getMessage(), stackTrace);
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handle(final NotFoundException e) throws UnsupportedEncodingException {
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.item;
+
+import ru.practicum.shareit.common.Paging;
+import ru.practicum.shareit.common.exeptions.ValidationException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server paths and request checks shared by the servlet and reactive item gateways.
+ */
+final class ItemApi {
+    static final String PREFIX = "/items";
+    static final String IMPORT = "/import";
+    static final String OWNER_ITEMS = "?" + Paging.QUERY;
+    static final String SEARCH = "/search?text={text}&" + Paging.QUERY;
+    static final String SEARCH_IN_MODE = "/search?text={text}&mode={mode}&" + Paging.QUERY;
+    static final String AVAILABLE = "/available?text={text}&start={start}&end={end}&" + Paging.QUERY;
+    static final String SUGGEST = "/suggest?prefix={prefix}&size={size}";
+
+    private ItemApi() {
+    }
+
+    static String search(String mode) {
+        return mode == null ? SEARCH : SEARCH_IN_MODE;
+    }
+
+    static Map<String, Object> searchParameters(String text, String mode, int from, int size) {
+        Map<String, Object> parameters = new HashMap<>(Paging.parameters(from, size));
+        parameters.put("text", text);
+        if (mode != null) parameters.put("mode", mode);
+        return parameters;
+    }
+
+    static Map<String, Object> availableParameters(String text, LocalDateTime start, LocalDateTime end,
+                                                   int from, int size) {
+        return Map.of(
+                "text", text,
+                "start", start,
+                "end", end,
+                "from", from,
+                "size", size
+        );
+    }
+
+    static Map<String, Object> suggestParameters(String prefix, int size) {
+        return Map.of(
+                "prefix", prefix,
+                "size", size
+        );
+    }
+
+    static void checkSearchMode(String mode) {
+        if (mode != null) {
+            SearchMode.from(mode).orElseThrow(() -> new ValidationException("Unknown search mode: " + mode));
+        }
+    }
+
+    static void checkInterval(LocalDateTime start, LocalDateTime end) {
+        if (!end.isAfter(start)) throw new ValidationException("End time must be after Start time");
+    }
+}
@@ -1,26 +1,31 @@
 package ru.practicum.shareit.item;
 
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.HttpClientConfig;
+import ru.practicum.shareit.common.Paging;
 
-import java.util.Map;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 
 @Service
+@Profile("!reactive")
 public class ItemClient extends BaseClient {
-    private static final String API_PREFIX = "/items";
-
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      CloseableHttpClient httpClient) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + ItemApi.PREFIX))
+                        .requestFactory(() -> HttpClientConfig.requestFactory(httpClient, false))
                         .build()
         );
     }
@@ -29,6 +34,10 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDto);
     }
 
+    public ResponseEntity<Object> importItems(long userId, MediaType contentType, InputStream body) {
+        return upload(ItemApi.IMPORT, userId, contentType, body);
+    }
+
     public ResponseEntity<Object> update(long itemId, long userId, ItemDto itemDto) {
         return patch("/" + itemId, userId, itemDto);
     }
@@ -37,21 +46,24 @@ public class ItemClient extends BaseClient {
         return delete("/" + id);
     }
 
-
     public ResponseEntity<Object> getById(long id, long userId) {
         return get("/" + id, userId);
     }
 
     public ResponseEntity<Object> getAll(long userId, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "from", from,
-                "size", size
-        );
-        return get("", userId, parameters);
+        return get(ItemApi.OWNER_ITEMS, userId, Paging.parameters(from, size));
+    }
+
+    public ResponseEntity<Object> search(String text, String mode, int from, int size) {
+        return get(ItemApi.search(mode), null, ItemApi.searchParameters(text, mode, from, size));
+    }
+
+    public ResponseEntity<Object> getAvailable(String text, LocalDateTime start, LocalDateTime end, int from, int size) {
+        return get(ItemApi.AVAILABLE, null, ItemApi.availableParameters(text, start, end, from, size));
     }
 
-    public ResponseEntity<Object> search(String text, int from, int size) {
-        return get("/search?text=" + text + "&from=" + from + "&size=" + size);
+    public ResponseEntity<Object> suggest(String prefix, int size) {
+        return get(ItemApi.SUGGEST, null, ItemApi.suggestParameters(prefix, size));
     }
 
     public ResponseEntity<Object> createComment(long itemId, long userId, Comment comment) {
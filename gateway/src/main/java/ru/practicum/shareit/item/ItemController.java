@@ -2,7 +2,11 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,10 +22,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 
 import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+import static ru.practicum.shareit.common.Constants.TEXT_CSV_VALUE;
 
 @Controller
+@Profile("!reactive")
 @RequestMapping("/items")
 @Validated
 @Slf4j
@@ -36,6 +44,14 @@ public class ItemController {
         return itemClient.create(userId, itemDto);
     }
 
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Object> importItems(InputStream body,
+                                              @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                              @RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Import ItemDtos of user {} as {}", userId, contentType);
+        return itemClient.importItems(userId, MediaType.parseMediaType(contentType), body);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Object> update(@PathVariable Long id,
                                          @RequestBody ItemDto itemDto,
@@ -67,10 +83,32 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<Object> search(@RequestParam String text,
+                                         @RequestParam(required = false) String mode,
                                          @PositiveOrZero @RequestParam(defaultValue = "0") int from,
                                          @Positive @RequestParam(defaultValue = "10") int size) {
-        log.info("Get ItemsDto contains {} from {} size {}", text, from, size);
-        return itemClient.search(text, from, size);
+        ItemApi.checkSearchMode(mode);
+        log.info("Get ItemsDto contains {} mode {} from {} size {}", text, mode, from, size);
+        return itemClient.search(text, mode, from, size);
+    }
+
+    @GetMapping("/available")
+    public ResponseEntity<Object> getAvailable(@RequestParam(defaultValue = "") String text,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                               LocalDateTime start,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                               LocalDateTime end,
+                                               @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                               @Positive @RequestParam(defaultValue = "10") int size) {
+        ItemApi.checkInterval(start, end);
+        log.info("Get ItemsDto contains {} free from {} to {} from {} size {}", text, start, end, from, size);
+        return itemClient.getAvailable(text, start, end, from, size);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Object> suggest(@RequestParam String prefix,
+                                          @Positive @RequestParam(defaultValue = "10") int size) {
+        log.info("Get item names starting with {} size {}", prefix, size);
+        return itemClient.suggest(prefix, size);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -8,8 +8,12 @@ import ru.practicum.shareit.booking.BookingDtoForItemDto;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import java.util.Collection;
 
+import static ru.practicum.shareit.common.Constants.ITEM_DESCRIPTION_MAX_LENGTH;
+import static ru.practicum.shareit.common.Constants.ITEM_NAME_MAX_LENGTH;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,9 +22,11 @@ public class ItemDto {
     private Long id;
 
     @NotBlank(message = "Name is not be empty.")
+    @Size(max = ITEM_NAME_MAX_LENGTH)
     private String name;
 
     @NotBlank(message = "Description is not be empty.")
+    @Size(max = ITEM_DESCRIPTION_MAX_LENGTH)
     private String description;
 
     @NotNull
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.common.Paging;
+
+import java.time.LocalDateTime;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemClient extends ReactiveBaseClient {
+    @Autowired
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + ItemApi.PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(long userId, ItemDto itemDto) {
+        return post("", userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> importItems(long userId, MediaType contentType,
+                                                              Flux<DataBuffer> body) {
+        return upload(ItemApi.IMPORT, userId, contentType, body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(long itemId, long userId, ItemDto itemDto) {
+        return patch("/" + itemId, userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(long id) {
+        return delete("/" + id);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(long id, long userId) {
+        return get("/" + id, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(long userId, int from, int size) {
+        return get(ItemApi.OWNER_ITEMS, userId, Paging.parameters(from, size));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(String text, String mode, int from, int size) {
+        return get(ItemApi.search(mode), null, ItemApi.searchParameters(text, mode, from, size));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailable(String text, LocalDateTime start, LocalDateTime end,
+                                                               int from, int size) {
+        return get(ItemApi.AVAILABLE, null, ItemApi.availableParameters(text, start, end, from, size));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> suggest(String prefix, int size) {
+        return get(ItemApi.SUGGEST, null, ItemApi.suggestParameters(prefix, size));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createComment(long itemId, long userId, Comment comment) {
+        return post("/" + itemId + "/comment", userId, comment);
+    }
+}
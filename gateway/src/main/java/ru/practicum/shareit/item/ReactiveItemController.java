@@ -0,0 +1,123 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+
+import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+import static ru.practicum.shareit.common.Constants.TEXT_CSV_VALUE;
+
+@Controller
+@Profile("reactive")
+@RequestMapping("/items")
+@Validated
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@RequestBody @Valid ItemDto itemDto,
+                                                         @RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Create ItemDto");
+        return itemClient.create(userId, itemDto);
+    }
+
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<DataBuffer>>> importItems(@RequestBody Flux<DataBuffer> body,
+                                                              @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                              @RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Import ItemDtos of user {} as {}", userId, contentType);
+        return itemClient.importItems(userId, MediaType.parseMediaType(contentType), body);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@PathVariable Long id,
+                                                         @RequestBody ItemDto itemDto,
+                                                         @RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Update ItemDto {}", id);
+        return itemClient.update(id, userId, itemDto);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(@PathVariable long id) {
+        log.info("Delete ItemDto {}", id);
+        return itemClient.delete(id);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(@PathVariable(required = false) long id,
+                                                          @RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Get Item {}", id);
+        return itemClient.getById(id, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                                         @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                                         @Positive @RequestParam(defaultValue = "10") int size) {
+        log.info("Get All ItemDto of user {} from {} size {}", userId, from, size);
+        return itemClient.getAll(userId, from, size);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(@RequestParam String text,
+                                                         @RequestParam(required = false) String mode,
+                                                         @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                                         @Positive @RequestParam(defaultValue = "10") int size) {
+        ItemApi.checkSearchMode(mode);
+        log.info("Get ItemsDto contains {} mode {} from {} size {}", text, mode, from, size);
+        return itemClient.search(text, mode, from, size);
+    }
+
+    @GetMapping("/available")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailable(@RequestParam(defaultValue = "") String text,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                               LocalDateTime start,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                               LocalDateTime end,
+                                                               @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                                               @Positive @RequestParam(defaultValue = "10") int size) {
+        ItemApi.checkInterval(start, end);
+        log.info("Get ItemsDto contains {} free from {} to {} from {} size {}", text, start, end, from, size);
+        return itemClient.getAvailable(text, start, end, from, size);
+    }
+
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> suggest(@RequestParam String prefix,
+                                                          @Positive @RequestParam(defaultValue = "10") int size) {
+        log.info("Get item names starting with {} size {}", prefix, size);
+        return itemClient.suggest(prefix, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createComment(@PathVariable(required = false) long itemId,
+                                                                @RequestBody Comment comment,
+                                                                @RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Create comment User {} item {}", userId, itemId);
+        return itemClient.createComment(itemId, userId, comment);
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.request;
+
+import ru.practicum.shareit.common.Paging;
+
+/**
+ * Server paths shared by the servlet and reactive item request gateways.
+ */
+final class ItemRequestApi {
+    static final String PREFIX = "/requests";
+    static final String ALL = "/all?" + Paging.QUERY;
+
+    private ItemRequestApi() {
+    }
+}
@@ -1,26 +1,27 @@
 package ru.practicum.shareit.request;
 
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
-
-import java.util.Map;
+import ru.practicum.shareit.client.HttpClientConfig;
+import ru.practicum.shareit.common.Paging;
 
 @Service
+@Profile("!reactive")
 public class ItemRequestClient extends BaseClient {
-    private static final String API_PREFIX = "/requests";
-
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             CloseableHttpClient httpClient) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + ItemRequestApi.PREFIX))
+                        .requestFactory(() -> HttpClientConfig.requestFactory(httpClient, true))
                         .build()
         );
     }
@@ -38,10 +39,6 @@ public class ItemRequestClient extends BaseClient {
     }
 
     public ResponseEntity<Object> getAll(long userId, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "from", from,
-                "size", size
-        );
-        return get("/all?from={from}&size={size}", userId, parameters);
+        return get(ItemRequestApi.ALL, userId, Paging.parameters(from, size));
     }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -19,6 +20,7 @@ import javax.validation.constraints.PositiveOrZero;
 import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
 
 @Controller
+@Profile("!reactive")
 @RequestMapping(path = "/requests")
 @Validated
 @Slf4j
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.common.Paging;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    @Autowired
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + ItemRequestApi.PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(long userId, ItemRequestDtoIn itemRequestDtoIn) {
+        return post("", userId, itemRequestDtoIn);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByUser(long userId) {
+        return get("/", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(long requestId, long userId) {
+        return get("/" + requestId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(long userId, int from, int size) {
+        return get(ItemRequestApi.ALL, userId, Paging.parameters(from, size));
+    }
+}
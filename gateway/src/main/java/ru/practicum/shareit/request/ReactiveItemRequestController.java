@@ -0,0 +1,62 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+
+@Controller
+@Profile("reactive")
+@RequestMapping(path = "/requests")
+@Validated
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveItemRequestController {
+
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@RequestHeader(HEADER_USER_ID) long userId,
+                                                         @RequestBody ItemRequestDtoIn itemRequestDtoIn) {
+        log.info("Create ItemRequest user {} ", userId);
+        return itemRequestClient.create(userId, itemRequestDtoIn);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByUser(@RequestHeader(HEADER_USER_ID) long userId) {
+        log.info("Get All ItemRequest user {}", userId);
+        return itemRequestClient.getAllByUser(userId);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(@RequestHeader(HEADER_USER_ID) long userId,
+                                                          @PathVariable(required = false) long requestId) {
+        log.info("Get ItemRequest {} user {} ", requestId, userId);
+        return itemRequestClient.getById(requestId, userId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                                         @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                                         @Positive @RequestParam(defaultValue = "10") int size) {
+        log.info("Get All ItemRequests of user {} from {} size {}", userId, from, size);
+        return itemRequestClient.getAll(userId, from, size);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+@Service
+@Profile("reactive")
+public class ReactiveUserClient extends ReactiveBaseClient {
+    @Autowired
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + UserApi.PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(long id, UserDto userDto) {
+        return patch("/" + id, userDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(long id) {
+        return delete("/" + id);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(long id) {
+        return get("/" + id);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll() {
+        return get("");
+    }
+}
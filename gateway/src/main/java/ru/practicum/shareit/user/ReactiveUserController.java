@@ -0,0 +1,62 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.common.ValidationMarkers;
+
+@Slf4j
+@Controller
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping(path = "/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@Validated(ValidationMarkers.Create.class)
+                                                         @RequestBody UserDto userDto) {
+        log.info("Create user");
+        return userClient.create(userDto);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@PathVariable long id,
+                                                         @Validated(ValidationMarkers.Update.class)
+                                                         @RequestBody UserDto userDto) {
+        log.info("Update user {}", id);
+        return userClient.update(id, userDto);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(@PathVariable long id) {
+        log.info("Delete user {}", id);
+        return userClient.delete(id);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(@PathVariable(required = false) long id) {
+        log.info("Get user {}", id);
+        return userClient.getById(id);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll() {
+        log.info("Get users");
+        return userClient.getAll();
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.user;
+
+/**
+ * Server paths shared by the servlet and reactive user gateways.
+ */
+final class UserApi {
+    static final String PREFIX = "/users";
+
+    private UserApi() {
+    }
+}
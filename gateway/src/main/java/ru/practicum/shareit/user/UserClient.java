@@ -1,24 +1,26 @@
 package ru.practicum.shareit.user;
 
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.HttpClientConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 @Service
+@Profile("!reactive")
 public class UserClient extends BaseClient {
-    private static final String API_PREFIX = "/users";
-
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      CloseableHttpClient httpClient) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + UserApi.PREFIX))
+                        .requestFactory(() -> HttpClientConfig.requestFactory(httpClient, true))
                         .build()
         );
     }
@@ -0,0 +1,127 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.item.ItemClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+
+@SpringBootTest(properties = "shareit-server.coalesce-gets=true")
+class BaseClientCoalescingTest {
+    private static final byte[] ITEM = "{\"id\":1,\"name\":\"Drill\"}".getBytes(StandardCharsets.UTF_8);
+    private static final List<String> serverRequestUserIds = new CopyOnWriteArrayList<>();
+    private static volatile CountDownLatch serverRelease = new CountDownLatch(0);
+    private static HttpServer server;
+
+    @Autowired
+    private ItemClient itemClient;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/items", exchange -> {
+            serverRequestUserIds.add(exchange.getRequestHeaders().getFirst(HEADER_USER_ID));
+            try {
+                serverRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(HttpStatus.OK.value(), ITEM.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(ITEM);
+            }
+        });
+        server.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        serverRequestUserIds.clear();
+        serverRelease = new CountDownLatch(1);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        serverRelease.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void identicalGetsOfOneUserReachTheServerOnce() throws Exception {
+        double joinedBefore = joined();
+        List<Future<ResponseEntity<Object>>> responses = List.of(
+                executor.submit(() -> itemClient.getById(1, 42)),
+                executor.submit(() -> itemClient.getById(1, 42)),
+                executor.submit(() -> itemClient.getById(1, 42)));
+        awaitUntil(() -> joined() - joinedBefore >= 2);
+        serverRelease.countDown();
+
+        for (Future<ResponseEntity<Object>> response : responses) {
+            assertThat(response.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.get().getBody()).isEqualTo(ITEM);
+        }
+        assertThat(serverRequestUserIds).containsExactly("42");
+    }
+
+    @Test
+    void identicalGetsOfDifferentUsersAreNotShared() throws Exception {
+        Future<ResponseEntity<Object>> first = executor.submit(() -> itemClient.getById(1, 1));
+        Future<ResponseEntity<Object>> second = executor.submit(() -> itemClient.getById(1, 2));
+        awaitUntil(() -> serverRequestUserIds.size() == 2);
+        serverRelease.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(serverRequestUserIds).containsExactlyInAnyOrder("1", "2");
+    }
+
+    private double joined() {
+        return meterRegistry.get("shareit.gateway.coalesced.requests").tag("result", "joined").counter().count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaseClientRelayTest {
+
+    @Test
+    void endToEndHeadersAreRelayed() {
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.setContentType(MediaType.APPLICATION_JSON);
+        serverHeaders.setContentLength(42);
+        serverHeaders.set("X-Next-Cursor", "abc");
+        serverHeaders.add("Vary", "Origin");
+        serverHeaders.add("Vary", "Accept");
+
+        HttpHeaders relayed = BaseClient.relayedHeaders(serverHeaders);
+
+        assertThat(relayed).isEqualTo(serverHeaders);
+    }
+
+    @Test
+    void hopByHopHeadersAreDropped() {
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.setContentType(MediaType.APPLICATION_JSON);
+        serverHeaders.set("Connection", "keep-alive");
+        serverHeaders.set("Keep-Alive", "timeout=60");
+        serverHeaders.set("Transfer-Encoding", "chunked");
+        serverHeaders.set("Upgrade", "h2c");
+        serverHeaders.set("Trailer", "Expires");
+
+        HttpHeaders relayed = BaseClient.relayedHeaders(serverHeaders);
+
+        assertThat(relayed.keySet()).containsExactly(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Test
+    void headersNamedByConnectionAreDropped() {
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.setConnection(List.of("close", "X-Server-Hop"));
+        serverHeaders.set("x-server-hop", "1");
+        serverHeaders.set("X-Next-Cursor", "abc");
+
+        HttpHeaders relayed = BaseClient.relayedHeaders(serverHeaders);
+
+        assertThat(relayed.keySet()).containsExactly("X-Next-Cursor");
+    }
+}
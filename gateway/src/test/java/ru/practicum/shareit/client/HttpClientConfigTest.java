@@ -0,0 +1,65 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "shareit-server.pool.max-total=7",
+        "shareit-server.pool.max-per-route=5"
+})
+class HttpClientConfigTest {
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private CloseableHttpClient httpClient;
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void everyClientUsesTheSharedHttpClient() {
+        Collection<BaseClient> clients = applicationContext.getBeansOfType(BaseClient.class).values();
+
+        assertThat(clients).hasSize(4);
+        assertThat(clients).allSatisfy(client -> {
+            ClientHttpRequestFactory requestFactory = unwrap(client.rest.getRequestFactory());
+            assertThat(requestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+            assertThat(((HttpComponentsClientHttpRequestFactory) requestFactory).getHttpClient())
+                    .isSameAs(httpClient);
+        });
+    }
+
+    @Test
+    void poolIsSizedFromPropertiesAndMonitored() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(7);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(5);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "shareit-server")
+                .gauge()
+                .value()).isEqualTo(7);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.lease")
+                .tag("httpclient", "shareit-server")
+                .timer()).isNotNull();
+    }
+
+    private static ClientHttpRequestFactory unwrap(ClientHttpRequestFactory requestFactory) {
+        if (requestFactory instanceof InterceptingClientHttpRequestFactory) {
+            return (ClientHttpRequestFactory) ReflectionTestUtils.getField(requestFactory, "requestFactory");
+        }
+        return requestFactory;
+    }
+}
@@ -0,0 +1,119 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+    private static final int CALLERS = 8;
+
+    private MeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(true, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void identicalConcurrentCallsShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("GET /items/1 42", () -> {
+            upstreamCalls.incrementAndGet();
+            await(release);
+            return "item 1";
+        });
+        awaitJoined(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("item 1");
+        }
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void failureReachesEveryWaiter() throws Exception {
+        IllegalStateException failure = new IllegalStateException("server is down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("GET /items/1 42", () -> {
+            await(release);
+            throw failure;
+        });
+        awaitJoined(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+    }
+
+    @Test
+    void finishedCallIsNotReused() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        requestCoalescer.execute("GET /items/1 42", upstreamCalls::incrementAndGet);
+        requestCoalescer.execute("GET /items/1 42", upstreamCalls::incrementAndGet);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private <T> List<Future<T>> callConcurrently(String key, Supplier<T> call) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> requestCoalescer.execute(key, call)));
+        }
+        return results;
+    }
+
+    private void awaitJoined(int callers) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (joined() < callers) {
+            assertThat(System.nanoTime()).as("callers joined in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double joined() {
+        return meterRegistry.get("shareit.gateway.coalesced.requests").tag("result", "joined").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
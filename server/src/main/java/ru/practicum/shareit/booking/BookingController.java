@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,11 +13,19 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.model.BookingApprovalDtoIn;
+import ru.practicum.shareit.booking.model.BookingBatchResult;
+import ru.practicum.shareit.booking.model.BookingCursorPage;
 import ru.practicum.shareit.booking.model.BookingDto;
 import ru.practicum.shareit.booking.model.BookingDtoIn;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.Collection;
+import java.util.List;
 
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static ru.practicum.shareit.common.Constants.HEADER_NEXT_CURSOR;
 import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
 
 @Validated
@@ -34,6 +43,13 @@ public class BookingController {
         return bookingService.create(userId, bookingDtoIn);
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResult> createAll(@RequestHeader(HEADER_USER_ID) Long userId,
+                                              @RequestBody List<BookingDtoIn> bookingDtoIns) {
+        log.info("Create {} BookingDtos User {} ", bookingDtoIns.size(), userId);
+        return bookingService.createAll(userId, bookingDtoIns);
+    }
+
     @PatchMapping("/{bookingId}")
     public BookingDto update(@RequestHeader(HEADER_USER_ID) Long userId,
                              @PathVariable Long bookingId,
@@ -42,6 +58,13 @@ public class BookingController {
         return bookingService.update(userId, bookingId, approved);
     }
 
+    @PatchMapping("/owner/batch")
+    public List<BookingBatchResult> updateAll(@RequestHeader(HEADER_USER_ID) Long userId,
+                                              @RequestBody List<BookingApprovalDtoIn> approvals) {
+        log.info("Update {} Bookings user {} ", approvals.size(), userId);
+        return bookingService.updateAll(userId, approvals);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDto getById(@RequestHeader(HEADER_USER_ID) Long userId,
                               @PathVariable(required = false) Long bookingId) {
@@ -53,7 +76,13 @@ public class BookingController {
     public Collection<BookingDto> getAllByBooker(@RequestHeader(HEADER_USER_ID) Long userId,
                                                  @RequestParam(defaultValue = "ALL", required = false) String state,
                                                  @RequestParam(defaultValue = "0", required = false) int from,
-                                                 @RequestParam(defaultValue = "10", required = false) int size) {
+                                                 @RequestParam(defaultValue = "10", required = false) int size,
+                                                 @RequestParam(required = false) String cursor,
+                                                 HttpServletResponse response) {
+        if (cursor != null) {
+            log.info("Get BookingDtos Booker {} state {} cursor {} size {}", userId, state, cursor, size);
+            return toCursorResponse(bookingService.getPageByBooker(userId, state, cursor, size), response);
+        }
         log.info("Get BookingDtos Booker {} state {} from {} size {}", userId, state, from, size);
         return bookingService.getAllByBooker(userId, state, from, size);
     }
@@ -62,8 +91,27 @@ public class BookingController {
     public Collection<BookingDto> getAllByOwner(@RequestHeader(HEADER_USER_ID) Long userId,
                                                 @RequestParam(defaultValue = "ALL", required = false) String state,
                                                 @RequestParam(defaultValue = "0", required = false) int from,
-                                                @RequestParam(defaultValue = "10", required = false) int size) {
+                                                @RequestParam(defaultValue = "10", required = false) int size,
+                                                @RequestParam(required = false) String cursor,
+                                                HttpServletResponse response) {
+        if (cursor != null) {
+            log.info("Get BookingDtos Owner {} state {} cursor {} size {}", userId, state, cursor, size);
+            return toCursorResponse(bookingService.getPageByOwner(userId, state, cursor, size), response);
+        }
         log.info("Get BookingDtos Owner {} state {} from {} size {}", userId, state, from, size);
         return bookingService.getAllByOwner(userId, state, from, size);
     }
+
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportByOwner(@RequestHeader(HEADER_USER_ID) Long userId) {
+        log.info("Export BookingDtos Owner {}", userId);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(bookingService.exportByOwner(userId));
+    }
+
+    private Collection<BookingDto> toCursorResponse(BookingCursorPage page, HttpServletResponse response) {
+        if (page.getNext() != null) response.setHeader(HEADER_NEXT_CURSOR, page.getNext());
+        return page.getBookings();
+    }
 }
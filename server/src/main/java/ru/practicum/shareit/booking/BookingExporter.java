@@ -0,0 +1,102 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+@Component
+public class BookingExporter {
+    private static final String SELECT_BY_OWNER = "SELECT b.id, b.start_date, b.end_date, b.status, " +
+            "bk.id AS booker_id, bk.name AS booker_name, bk.email AS booker_email, " +
+            "i.item_id, i.name AS item_name, i.description, i.is_available, i.request_id, " +
+            "o.id AS owner_id, o.name AS owner_name, o.email AS owner_email " +
+            "FROM bookings b " +
+            "JOIN users bk ON bk.id = b.booker_id " +
+            "JOIN items i ON i.item_id = b.item_id " +
+            "JOIN users o ON o.id = i.owner_id " +
+            "WHERE i.owner_id = ? " +
+            "ORDER BY b.start_date DESC, b.id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public BookingExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+                           ObjectMapper objectMapper, @Value("${shareit.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportByOwner(Long ownerId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(SELECT_BY_OWNER, resultSet -> {
+                        try {
+                            writeBooking(generator, resultSet);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, ownerId));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeBooking(JsonGenerator generator, ResultSet resultSet) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", resultSet.getLong("id"));
+        writeDateTime(generator, "start", resultSet.getTimestamp("start_date"));
+        writeDateTime(generator, "end", resultSet.getTimestamp("end_date"));
+        generator.writeStringField("status", resultSet.getString("status"));
+        generator.writeFieldName("booker");
+        writeUser(generator, resultSet.getLong("booker_id"), resultSet.getString("booker_name"),
+                resultSet.getString("booker_email"));
+        generator.writeObjectFieldStart("item");
+        generator.writeNumberField("id", resultSet.getLong("item_id"));
+        generator.writeStringField("name", resultSet.getString("item_name"));
+        generator.writeStringField("description", resultSet.getString("description"));
+        generator.writeBooleanField("available", resultSet.getBoolean("is_available"));
+        generator.writeFieldName("owner");
+        writeUser(generator, resultSet.getLong("owner_id"), resultSet.getString("owner_name"),
+                resultSet.getString("owner_email"));
+        long requestId = resultSet.getLong("request_id");
+        if (resultSet.wasNull()) {
+            generator.writeNullField("requestId");
+        } else {
+            generator.writeNumberField("requestId", requestId);
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeDateTime(JsonGenerator generator, String fieldName, Timestamp timestamp) throws IOException {
+        generator.writeFieldName(fieldName);
+        generator.writeObject(timestamp.toLocalDateTime());
+    }
+
+    private void writeUser(JsonGenerator generator, long id, String name, String email) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("name", name);
+        generator.writeStringField("email", email);
+        generator.writeEndObject();
+    }
+}
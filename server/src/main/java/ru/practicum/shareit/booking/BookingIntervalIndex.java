@@ -0,0 +1,233 @@
+package ru.practicum.shareit.booking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+public class BookingIntervalIndex {
+    private final BookingRepository bookingRepository;
+    private final Map<Long, ItemIntervals> intervals;
+    private final Lock writeLock = new ReentrantLock();
+    private long version;
+
+    public BookingIntervalIndex(BookingRepository bookingRepository,
+                                @Value("${shareit.booking.interval-cache-size:10000}") long maximumSize,
+                                MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        Cache<Long, ItemIntervals> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "booking-intervals");
+        this.intervals = cache.asMap();
+    }
+
+    public boolean hasOverlap(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return get(itemId).hasOverlap(toEpochSecond(start), toEpochSecond(end));
+    }
+
+    public Optional<BookingInterval> findLast(Long itemId, LocalDateTime now) {
+        ItemIntervals itemIntervals = get(itemId);
+        long epochSecond = toEpochSecond(now);
+        Optional<BookingInterval> current = itemIntervals.findCurrent(epochSecond);
+        return current.isPresent() ? current : itemIntervals.findLastEnded(epochSecond);
+    }
+
+    public Optional<BookingInterval> findNext(Long itemId, LocalDateTime now) {
+        return get(itemId).findNext(toEpochSecond(now));
+    }
+
+    public void load(Collection<Long> itemIds) {
+        loadMissing(itemIds);
+    }
+
+    public void add(Booking booking) {
+        BookingInterval interval = new BookingInterval(booking.getId(), booking.getItem().getId(),
+                booking.getBooker().getId(), booking.getStart(), booking.getEnd());
+        writeLock.lock();
+        try {
+            version++;
+            intervals.computeIfPresent(interval.getItemId(), (itemId, itemIntervals) -> itemIntervals.with(interval));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void evict(Long itemId) {
+        writeLock.lock();
+        try {
+            version++;
+            intervals.remove(itemId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private ItemIntervals get(Long itemId) {
+        ItemIntervals itemIntervals = intervals.get(itemId);
+        return itemIntervals != null ? itemIntervals : loadMissing(List.of(itemId)).get(itemId);
+    }
+
+    private Map<Long, ItemIntervals> loadMissing(Collection<Long> itemIds) {
+        Map<Long, ItemIntervals> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            ItemIntervals itemIntervals = intervals.get(itemId);
+            if (itemIntervals != null) {
+                result.put(itemId, itemIntervals);
+            } else {
+                missingIds.add(itemId);
+            }
+        }
+        if (missingIds.isEmpty()) return result;
+
+        long loadedVersion = currentVersion();
+        Map<Long, List<BookingInterval>> loaded = bookingRepository.findAllApprovedIntervalsByItemIds(missingIds)
+                .stream()
+                .collect(Collectors.groupingBy(BookingInterval::getItemId));
+        writeLock.lock();
+        try {
+            boolean unchanged = version == loadedVersion;
+            for (Long itemId : missingIds) {
+                ItemIntervals itemIntervals = new ItemIntervals(loaded.getOrDefault(itemId, List.of()));
+                result.put(itemId, unchanged ? intervals.merge(itemId, itemIntervals, (cached, fresh) -> cached)
+                        : itemIntervals);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return result;
+    }
+
+    private long currentVersion() {
+        writeLock.lock();
+        try {
+            return version;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static class ItemIntervals {
+        private final BookingInterval[] byStart;
+        private final long[] starts;
+        private final long[] maxEnds;
+        private final int[] maxEndPositions;
+        private final long[] sortedEnds;
+        private final int[] endOrder;
+
+        ItemIntervals(List<BookingInterval> bookingIntervals) {
+            byStart = bookingIntervals.stream()
+                    .sorted(Comparator.comparing(BookingInterval::getStart).thenComparing(BookingInterval::getId))
+                    .toArray(BookingInterval[]::new);
+            int size = byStart.length;
+            starts = new long[size];
+            maxEnds = new long[size];
+            maxEndPositions = new int[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = toEpochSecond(byStart[i].getStart());
+                long end = toEpochSecond(byStart[i].getEnd());
+                if (i == 0 || end > maxEnds[i - 1]) {
+                    maxEnds[i] = end;
+                    maxEndPositions[i] = i;
+                } else {
+                    maxEnds[i] = maxEnds[i - 1];
+                    maxEndPositions[i] = maxEndPositions[i - 1];
+                }
+            }
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer i) -> byStart[i].getEnd()));
+            endOrder = new int[size];
+            sortedEnds = new long[size];
+            for (int i = 0; i < size; i++) {
+                endOrder[i] = order[i];
+                sortedEnds[i] = toEpochSecond(byStart[order[i]].getEnd());
+            }
+        }
+
+        ItemIntervals with(BookingInterval interval) {
+            for (BookingInterval bookingInterval : byStart) {
+                if (bookingInterval.getId().equals(interval.getId())) return this;
+            }
+            List<BookingInterval> bookingIntervals = new ArrayList<>(Arrays.asList(byStart));
+            bookingIntervals.add(interval);
+            return new ItemIntervals(bookingIntervals);
+        }
+
+        boolean hasOverlap(long start, long end) {
+            int last = countAtMost(starts, end) - 1;
+            return last >= 0 && maxEnds[last] >= start;
+        }
+
+        Optional<BookingInterval> findCurrent(long now) {
+            int last = countLessThan(starts, now) - 1;
+            if (last < 0 || maxEnds[last] <= now) return Optional.empty();
+            return Optional.of(byStart[maxEndPositions[last]]);
+        }
+
+        Optional<BookingInterval> findLastEnded(long now) {
+            int last = countLessThan(sortedEnds, now) - 1;
+            return last >= 0 ? Optional.of(byStart[endOrder[last]]) : Optional.empty();
+        }
+
+        Optional<BookingInterval> findNext(long now) {
+            int first = countAtMost(starts, now);
+            return first < starts.length ? Optional.of(byStart[first]) : Optional.empty();
+        }
+
+        private static int countLessThan(long[] values, long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static int countAtMost(long[] values, long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+public class BookingLocks {
+    private final Lock[] stripes;
+
+    public BookingLocks(@Value("${shareit.booking.lock-stripes:64}") int stripeCount) {
+        stripes = new Lock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock forItem(Long itemId) {
+        return stripes[stripe(itemId)];
+    }
+
+    public List<Lock> forItems(Collection<Long> itemIds) {
+        return itemIds.stream()
+                .mapToInt(this::stripe)
+                .distinct()
+                .sorted()
+                .mapToObj(stripe -> stripes[stripe])
+                .collect(Collectors.toList());
+    }
+
+    private int stripe(Long itemId) {
+        return Math.floorMod(itemId.hashCode(), stripes.length);
+    }
+}
@@ -2,62 +2,84 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDto;
+import ru.practicum.shareit.booking.model.BookingInterval;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
+    @Query("SELECT DISTINCT b.item.id FROM Booking b WHERE b.booker.id = ?1")
+    List<Long> findItemIdsByBookerId(Long bookerId);
+
+    String SELECT_BOOKING_DTO = "SELECT new ru.practicum.shareit.booking.model.BookingDto(b.id, b.start, b.end, " +
+            "b.status, bk.id, bk.name, bk.email, i.id, i.name, i.description, i.available, i.requestId, " +
+            "o.id, o.name, o.email) " +
+            "FROM Booking b JOIN b.booker bk JOIN b.item i JOIN i.owner o ";
 
     @Query("SELECT b " +
-            "FROM Booking b " +
-            "WHERE b.id = ?1 AND b.item.owner.id = ?2")
+            "FROM Booking b JOIN FETCH b.item i JOIN FETCH i.owner o JOIN FETCH b.booker " +
+            "WHERE b.id = ?1 AND o.id = ?2")
     Optional<Booking> findByBookingIdAndOwnerId(Long bookingId, Long ownerId);
 
     @Query("SELECT b " +
-            "FROM Booking b " +
-            "WHERE b.id = ?1 AND (b.item.owner.id = ?2 OR b.booker.id = ?2)")
+            "FROM Booking b JOIN FETCH b.item i JOIN FETCH i.owner o JOIN FETCH b.booker bk " +
+            "WHERE b.id = ?1 AND (o.id = ?2 OR bk.id = ?2)")
     Optional<Booking> findByBookingIdAndBookerIdOrOwnerId(Long bookingId, Long userId);
 
-    List<Booking> findAllByBookerId(Long userId, Pageable pageable);
-
-    List<Booking> findAllByBookerIdAndStatus(Long userId, BookingStatus status, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE bk.id = ?1")
+    List<BookingDto> findAllByBookerId(Long userId, Pageable pageable);
 
-    List<Booking> findAllByBookerIdAndEndIsBefore(Long bookerId, LocalDateTime current, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE bk.id = ?1 AND b.status = ?2")
+    List<BookingDto> findAllByBookerIdAndStatus(Long userId, BookingStatus status, Pageable pageable);
 
-    List<Booking> findAllByBookerIdAndStartIsAfter(Long bookerId, LocalDateTime current, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE bk.id = ?1 AND b.end < ?2")
+    List<BookingDto> findAllByBookerIdAndEndIsBefore(Long bookerId, LocalDateTime current, Pageable pageable);
 
-    List<Booking> findAllByBookerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime startBefore,
-                                                                 LocalDateTime endAfter, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE bk.id = ?1 AND b.start > ?2")
+    List<BookingDto> findAllByBookerIdAndStartIsAfter(Long bookerId, LocalDateTime current, Pageable pageable);
 
-    List<Booking> findAllByItemOwnerId(Long userId, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE bk.id = ?1 AND b.start < ?2 AND b.end > ?3")
+    List<BookingDto> findAllByBookerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime startBefore,
+                                                                    LocalDateTime endAfter, Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdAndStatus(Long userId, BookingStatus status, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE o.id = ?1")
+    List<BookingDto> findAllByItemOwnerId(Long userId, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndEndIsBefore(Long bookerId, LocalDateTime current, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE o.id = ?1 AND b.status = ?2")
+    List<BookingDto> findAllByItemOwnerIdAndStatus(Long userId, BookingStatus status, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartIsAfter(Long bookerId, LocalDateTime current, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE o.id = ?1 AND b.end < ?2")
+    List<BookingDto> findByItemOwnerIdAndEndIsBefore(Long bookerId, LocalDateTime current, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime startBefore,
-                                                                 LocalDateTime endAfter, Pageable pageable);
+    @Query(SELECT_BOOKING_DTO + "WHERE o.id = ?1 AND b.start > ?2")
+    List<BookingDto> findByItemOwnerIdAndStartIsAfter(Long bookerId, LocalDateTime current, Pageable pageable);
 
-    Optional<Booking> findFirstByBookerIdAndItemIdAndEndIsBefore(Long bookerId, Long itemId, LocalDateTime end);
+    @Query(SELECT_BOOKING_DTO + "WHERE o.id = ?1 AND b.start < ?2 AND b.end > ?3")
+    List<BookingDto> findByItemOwnerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime startBefore,
+                                                                    LocalDateTime endAfter, Pageable pageable);
 
-    Optional<Booking> findFirstByItemIdAndStatusAndEndBeforeOrderByEndDesc(Long itemId, BookingStatus status, LocalDateTime date);
+    @Query("SELECT b " +
+            "FROM Booking b JOIN FETCH b.item i JOIN FETCH i.owner o JOIN FETCH b.booker " +
+            "WHERE b.id IN ?1 AND o.id = ?2")
+    List<Booking> findAllByIdInAndOwnerId(Collection<Long> bookingIds, Long ownerId);
 
-    Optional<Booking> findFirstByItemIdAndStatusAndStartAfterOrderByStart(Long itemId, BookingStatus status, LocalDateTime date);
+    @Modifying
+    @Query("UPDATE Booking b " +
+            "SET b.status = ?2 " +
+            "WHERE b.id IN ?1")
+    int updateStatusByIdIn(Collection<Long> bookingIds, BookingStatus status);
 
-    Optional<Booking> findByItemIdAndStatusAndStartBeforeAndEndAfter(Long itemId, BookingStatus status,
-                                                                     LocalDateTime startBefore,
-                                                                     LocalDateTime endAfter);
+    Optional<Booking> findFirstByBookerIdAndItemIdAndEndIsBefore(Long bookerId, Long itemId, LocalDateTime end);
 
-    @Query("SELECT b " +
+    @Query("SELECT new ru.practicum.shareit.booking.model.BookingInterval(b.id, b.item.id, b.booker.id, b.start, b.end) " +
             "FROM Booking b " +
-            "WHERE b.item.id = ?1 AND b.status = 'APPROVED' " +
-            "AND (b.start <= ?3 AND b.end >= ?2)")
-    List<Booking> findAllByItemIdAndStatusAndStartOrEnd(Long itemId, LocalDateTime startAfter,
-                                                        LocalDateTime endBefore);
+            "WHERE b.item.id IN ?1 AND b.status = 'APPROVED'")
+    List<BookingInterval> findAllApprovedIntervalsByItemIds(Collection<Long> itemIds);
 }
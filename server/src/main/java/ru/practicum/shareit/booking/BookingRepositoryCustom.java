@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingDto;
+import ru.practicum.shareit.booking.model.StateStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+
+    List<BookingDto> findAllByBookerIdAfterCursor(Long bookerId, StateStatus state, LocalDateTime now,
+                                                  BookingCursor cursor, int limit);
+
+    List<BookingDto> findAllByItemOwnerIdAfterCursor(Long ownerId, StateStatus state, LocalDateTime now,
+                                                     BookingCursor cursor, int limit);
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.StateStatus;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingDto> findAllByBookerIdAfterCursor(Long bookerId, StateStatus state, LocalDateTime now,
+                                                         BookingCursor cursor, int limit) {
+        return findAllAfterCursor("bk.id", bookerId, state, now, cursor, limit);
+    }
+
+    @Override
+    public List<BookingDto> findAllByItemOwnerIdAfterCursor(Long ownerId, StateStatus state, LocalDateTime now,
+                                                            BookingCursor cursor, int limit) {
+        return findAllAfterCursor("o.id", ownerId, state, now, cursor, limit);
+    }
+
+    private List<BookingDto> findAllAfterCursor(String userPath, Long userId, StateStatus state, LocalDateTime now,
+                                                BookingCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(BookingRepository.SELECT_BOOKING_DTO)
+                .append("WHERE ").append(userPath).append(" = :userId");
+        switch (state) {
+            case CURRENT:
+                jpql.append(" AND b.start < :now AND b.end > :now");
+                break;
+            case PAST:
+                jpql.append(" AND b.end < :now");
+                break;
+            case FUTURE:
+                jpql.append(" AND b.start > :now");
+                break;
+            case WAITING:
+            case REJECTED:
+                jpql.append(" AND b.status = :status");
+                break;
+            default:
+                break;
+        }
+        if (state.isOrderedById()) {
+            if (cursor != null) jpql.append(" AND b.id > :cursorId");
+            jpql.append(" ORDER BY b.id ASC");
+        } else {
+            if (cursor != null) {
+                jpql.append(" AND b.start <= :cursorStart AND (b.start < :cursorStart OR b.id < :cursorId)");
+            }
+            jpql.append(" ORDER BY b.start DESC, b.id DESC");
+        }
+
+        TypedQuery<BookingDto> query = entityManager.createQuery(jpql.toString(), BookingDto.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        if (state == StateStatus.CURRENT || state == StateStatus.PAST || state == StateStatus.FUTURE) {
+            query.setParameter("now", now);
+        }
+        if (state == StateStatus.WAITING || state == StateStatus.REJECTED) {
+            query.setParameter("status", BookingStatus.valueOf(state.name()));
+        }
+        if (cursor != null) {
+            query.setParameter("cursorId", cursor.getId());
+            if (!state.isOrderedById()) query.setParameter("cursorStart", cursor.getStart());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,14 +1,24 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingApprovalDtoIn;
+import ru.practicum.shareit.booking.model.BookingBatchResult;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingCursorPage;
 import ru.practicum.shareit.booking.model.BookingDto;
 import ru.practicum.shareit.booking.model.BookingDtoIn;
 import ru.practicum.shareit.booking.model.BookingMapper;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.model.StateStatus;
+import ru.practicum.shareit.common.AfterCommit;
 import ru.practicum.shareit.common.exeptions.NotFoundException;
 import ru.practicum.shareit.common.exeptions.UnsupportedStatusException;
 import ru.practicum.shareit.common.exeptions.ValidationException;
@@ -18,9 +28,18 @@ import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.common.Constants.SORT_BY_ID_ASC;
@@ -32,32 +51,68 @@ public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final BookingLocks bookingLocks;
+    private final BookingExporter bookingExporter;
 
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
+    @Transactional
     public BookingDto create(Long userId, BookingDtoIn bookingDtoIn) {
         Item item = itemRepository.findById(bookingDtoIn.getItemId())
                 .orElseThrow(() -> new NotFoundException("Item not found: " + bookingDtoIn.getItemId()));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found: " + userId));
-        if (!item.getAvailable()) throw new ValidationException("Owner banned rent Item: " + bookingDtoIn.getItemId());
-        if (bookingDtoIn.getEnd().isBefore(bookingDtoIn.getStart()))
-            throw new ValidationException("End time must be after Start time");
-        if (bookingDtoIn.getEnd().equals(bookingDtoIn.getStart()))
-            throw new ValidationException("End time must not be equals Start time");
-        Booking booking = bookingMapper.toBooking(bookingDtoIn);
-        if (Objects.equals(userId, item.getOwner().getId())) throw new NotFoundException("Booker ID: " + userId
-                + " not be equal to owner ID: " + item.getOwner().getId());
+        Booking booking = toNewBooking(user, item, bookingDtoIn);
+        if (bookingIntervalIndex.hasOverlap(item.getId(), bookingDtoIn.getStart(), bookingDtoIn.getEnd())) {
+            throw new ValidationException("Item is rent in this time");
+        }
+        return bookingMapper.toBookingDto(bookingRepository.save(booking));
+    }
 
-        List<Booking> bookingRents = bookingRepository.findAllByItemIdAndStatusAndStartOrEnd(item.getId(),
-                bookingDtoIn.getStart(), bookingDtoIn.getEnd());
-        if (!bookingRents.isEmpty()) throw new ValidationException("Item is rent in this time");
+    public List<BookingBatchResult> createAll(Long userId, List<BookingDtoIn> bookingDtoIns) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found: " + userId));
+        Set<Long> itemIds = bookingDtoIns.stream()
+                .map(BookingDtoIn::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository.findAllWithOwnerByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
 
-        booking.setItem(item);
-        booking.setStatus(BookingStatus.WAITING);
-        booking.setBooker(user);
-        return bookingMapper.toBookingDto(bookingRepository.save(booking));
+        BookingBatchResult[] results = new BookingBatchResult[bookingDtoIns.size()];
+        Map<Integer, Booking> accepted = new LinkedHashMap<>();
+        for (int i = 0; i < bookingDtoIns.size(); i++) {
+            BookingDtoIn bookingDtoIn = bookingDtoIns.get(i);
+            try {
+                Item item = items.get(bookingDtoIn.getItemId());
+                if (item == null) throw new NotFoundException("Item not found: " + bookingDtoIn.getItemId());
+                accepted.put(i, toNewBooking(user, item, bookingDtoIn));
+            } catch (ValidationException e) {
+                results[i] = BookingBatchResult.failed(i, HttpStatus.BAD_REQUEST, e.getMessage());
+            } catch (NotFoundException e) {
+                results[i] = BookingBatchResult.failed(i, HttpStatus.NOT_FOUND, e.getMessage());
+            }
+        }
+
+        bookingIntervalIndex.load(items.keySet());
+        accepted.entrySet().removeIf(entry -> {
+            Booking booking = entry.getValue();
+            if (!bookingIntervalIndex.hasOverlap(booking.getItem().getId(), booking.getStart(), booking.getEnd())) {
+                return false;
+            }
+            results[entry.getKey()] = BookingBatchResult.failed(entry.getKey(), HttpStatus.BAD_REQUEST,
+                    "Item is rent in this time");
+            return true;
+        });
+        if (!accepted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> bookingRepository.saveAll(accepted.values()));
+        }
+        accepted.forEach((index, booking) ->
+                results[index] = BookingBatchResult.created(index, bookingMapper.toBookingDto(booking)));
+        return Arrays.asList(results);
     }
 
     public BookingDto update(Long userId, Long bookingId, Boolean approved) {
@@ -70,89 +125,219 @@ public class BookingService {
         if (bookingUpdate.getStatus().equals(BookingStatus.APPROVED)) {
             throw new ValidationException("Booking has already been approved");
         }
-        if (approved) {
-            bookingUpdate.setStatus(BookingStatus.APPROVED);
-        } else {
+        if (!approved) {
             bookingUpdate.setStatus(BookingStatus.REJECTED);
+            bookingRepository.save(bookingUpdate);
+            return bookingMapper.toBookingDto(bookingUpdate);
+        }
+        Lock lock = bookingLocks.forItem(bookingUpdate.getItem().getId());
+        lock.lock();
+        try {
+            if (bookingIntervalIndex.hasOverlap(bookingUpdate.getItem().getId(), bookingUpdate.getStart(),
+                    bookingUpdate.getEnd())) {
+                throw new ValidationException("Item is rent in this time");
+            }
+            bookingUpdate.setStatus(BookingStatus.APPROVED);
+            bookingRepository.save(bookingUpdate);
+            AfterCommit.run(() -> bookingIntervalIndex.add(bookingUpdate));
+            return bookingMapper.toBookingDto(bookingUpdate);
+        } catch (DataIntegrityViolationException e) {
+            throw new ValidationException("Item is rent in this time");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<BookingBatchResult> updateAll(Long userId, List<BookingApprovalDtoIn> approvals) {
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
+        Map<Long, Booking> bookings = bookingRepository.findAllByIdInAndOwnerId(approvals.stream()
+                        .map(BookingApprovalDtoIn::getBookingId)
+                        .collect(Collectors.toSet()), userId).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        BookingBatchResult[] results = new BookingBatchResult[approvals.size()];
+        Map<Long, Integer> toApprove = new HashMap<>();
+        Map<Long, Integer> toReject = new LinkedHashMap<>();
+        for (int i = 0; i < approvals.size(); i++) {
+            BookingApprovalDtoIn approval = approvals.get(i);
+            Booking booking = bookings.get(approval.getBookingId());
+            if (booking == null) {
+                results[i] = BookingBatchResult.failed(i, HttpStatus.NOT_FOUND,
+                        "Booking not found: " + approval.getBookingId() + " user " + userId);
+            } else if (toApprove.containsKey(booking.getId()) || toReject.containsKey(booking.getId())) {
+                results[i] = BookingBatchResult.failed(i, HttpStatus.BAD_REQUEST,
+                        "Duplicate booking in batch: " + booking.getId());
+            } else if (booking.getStatus().equals(BookingStatus.APPROVED)) {
+                results[i] = BookingBatchResult.failed(i, HttpStatus.BAD_REQUEST, "Booking has already been approved");
+            } else if (approval.getApproved()) {
+                toApprove.put(booking.getId(), i);
+            } else {
+                toReject.put(booking.getId(), i);
+            }
+        }
+
+        Set<Long> itemIds = toApprove.keySet().stream()
+                .map(bookingId -> bookings.get(bookingId).getItem().getId())
+                .collect(Collectors.toSet());
+        List<Lock> locks = bookingLocks.forItems(itemIds);
+        locks.forEach(Lock::lock);
+        try {
+            bookingIntervalIndex.load(itemIds);
+            List<Booking> approved = new ArrayList<>();
+            Map<Long, LocalDateTime> approvedUntil = new HashMap<>();
+            toApprove.keySet().stream()
+                    .map(bookings::get)
+                    .sorted(Comparator.comparing(Booking::getStart).thenComparing(Booking::getId))
+                    .forEach(booking -> {
+                        Long itemId = booking.getItem().getId();
+                        LocalDateTime until = approvedUntil.get(itemId);
+                        if ((until != null && !booking.getStart().isAfter(until))
+                                || bookingIntervalIndex.hasOverlap(itemId, booking.getStart(), booking.getEnd())) {
+                            int index = toApprove.get(booking.getId());
+                            results[index] = BookingBatchResult.failed(index, HttpStatus.BAD_REQUEST,
+                                    "Item is rent in this time");
+                            return;
+                        }
+                        approvedUntil.merge(itemId, booking.getEnd(), (left, right) -> left.isAfter(right) ? left : right);
+                        approved.add(booking);
+                    });
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!approved.isEmpty()) bookingRepository.updateStatusByIdIn(approved.stream()
+                            .map(Booking::getId)
+                            .collect(Collectors.toList()), BookingStatus.APPROVED);
+                    if (!toReject.isEmpty()) bookingRepository.updateStatusByIdIn(toReject.keySet(),
+                            BookingStatus.REJECTED);
+                });
+            } catch (DataIntegrityViolationException e) {
+                throw new ValidationException("Item is rent in this time");
+            }
+            approved.forEach(booking -> {
+                booking.setStatus(BookingStatus.APPROVED);
+                bookingIntervalIndex.add(booking);
+                int index = toApprove.get(booking.getId());
+                results[index] = BookingBatchResult.created(index, bookingMapper.toBookingDto(booking));
+            });
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
         }
-        return bookingMapper.toBookingDto(bookingRepository.save(bookingUpdate));
+        toReject.forEach((bookingId, index) -> {
+            Booking booking = bookings.get(bookingId);
+            booking.setStatus(BookingStatus.REJECTED);
+            results[index] = BookingBatchResult.created(index, bookingMapper.toBookingDto(booking));
+        });
+        return Arrays.asList(results);
     }
 
+    @Transactional(readOnly = true)
     public BookingDto getById(Long bookingId, Long userId) {
         Booking booking = bookingRepository.findByBookingIdAndBookerIdOrOwnerId(bookingId, userId)
                 .orElseThrow(() -> new NotFoundException("Booking not found: " + bookingId));
         return bookingMapper.toBookingDto(booking);
     }
 
+    @Transactional(readOnly = true)
     public Collection<BookingDto> getAllByBooker(Long userId, String state, int from, int size) {
         StateStatus status = StateStatus.from(state);
-        if (!userRepository.existsById(userId)) throw new NotFoundException("User not found: " + userId);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
 
         switch (status) {
             case ALL:
-                return bookingRepository.findAllByBookerId(userId, PageRequest.of(from / size, size, SORT_BY_START_DESC))
-                        .stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                return bookingRepository.findAllByBookerId(userId, PageRequest.of(from / size, size, SORT_BY_START_DESC));
             case WAITING:
             case REJECTED:
                 return bookingRepository.findAllByBookerIdAndStatus(userId, BookingStatus.valueOf(state.toUpperCase()),
-                                PageRequest.of(from / size, size, SORT_BY_ID_ASC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from / size, size, SORT_BY_ID_ASC));
             case PAST:
                 return bookingRepository.findAllByBookerIdAndEndIsBefore(userId, LocalDateTime.now(),
-                                PageRequest.of(from / size, size, SORT_BY_START_DESC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from / size, size, SORT_BY_START_DESC));
             case FUTURE:
                 return bookingRepository.findAllByBookerIdAndStartIsAfter(userId, LocalDateTime.now(),
-                                PageRequest.of(from / size, size, SORT_BY_START_DESC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from / size, size, SORT_BY_START_DESC));
             case CURRENT:
                 return bookingRepository.findAllByBookerIdAndStartIsBeforeAndEndIsAfter(userId, LocalDateTime.now(),
-                                LocalDateTime.now(), PageRequest.of(from / size, size, SORT_BY_ID_ASC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        LocalDateTime.now(), PageRequest.of(from / size, size, SORT_BY_ID_ASC));
             default:
                 throw new UnsupportedStatusException("Unknown state: UNSUPPORTED_STATUS");
         }
     }
 
+    @Transactional(readOnly = true)
+    public BookingCursorPage getPageByBooker(Long userId, String state, String cursor, int size) {
+        StateStatus status = StateStatus.from(state);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
+        return toCursorPage(bookingRepository.findAllByBookerIdAfterCursor(userId, status, LocalDateTime.now(),
+                decodeCursor(cursor), size + 1), size);
+    }
+
+    @Transactional(readOnly = true)
     public Collection<BookingDto> getAllByOwner(Long userId, String state, int from, int size) {
         StateStatus status = StateStatus.from(state);
 
-        if (!userRepository.existsById(userId)) throw new NotFoundException("User not found: " + userId);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
 
         switch (status) {
             case ALL:
-                return bookingRepository.findAllByItemOwnerId(userId, PageRequest.of(from, size, SORT_BY_START_DESC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                return bookingRepository.findAllByItemOwnerId(userId, PageRequest.of(from, size, SORT_BY_START_DESC));
             case WAITING:
             case REJECTED:
                 return bookingRepository.findAllByItemOwnerIdAndStatus(userId, BookingStatus.valueOf(state.toUpperCase()),
-                                PageRequest.of(from, size, SORT_BY_ID_ASC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from, size, SORT_BY_ID_ASC));
             case PAST:
                 return bookingRepository.findByItemOwnerIdAndEndIsBefore(userId, LocalDateTime.now(),
-                                PageRequest.of(from, size, SORT_BY_START_DESC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from, size, SORT_BY_START_DESC));
             case FUTURE:
                 return bookingRepository.findByItemOwnerIdAndStartIsAfter(userId, LocalDateTime.now(),
-                                PageRequest.of(from, size, SORT_BY_START_DESC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from, size, SORT_BY_START_DESC));
             case CURRENT:
                 return bookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsAfter(userId, LocalDateTime.now(), LocalDateTime.now(),
-                                PageRequest.of(from, size, SORT_BY_ID_ASC)).stream()
-                        .map(bookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+                        PageRequest.of(from, size, SORT_BY_ID_ASC));
             default:
                 throw new UnsupportedStatusException("Unknown state: UNSUPPORTED_STATUS");
         }
     }
+
+    @Transactional(readOnly = true)
+    public BookingCursorPage getPageByOwner(Long userId, String state, String cursor, int size) {
+        StateStatus status = StateStatus.from(state);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
+        return toCursorPage(bookingRepository.findAllByItemOwnerIdAfterCursor(userId, status, LocalDateTime.now(),
+                decodeCursor(cursor), size + 1), size);
+    }
+
+    public StreamingResponseBody exportByOwner(Long userId) {
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
+        return out -> bookingExporter.exportByOwner(userId, out);
+    }
+
+    private Booking toNewBooking(User user, Item item, BookingDtoIn bookingDtoIn) {
+        if (!item.getAvailable()) throw new ValidationException("Owner banned rent Item: " + bookingDtoIn.getItemId());
+        if (bookingDtoIn.getEnd().isBefore(bookingDtoIn.getStart()))
+            throw new ValidationException("End time must be after Start time");
+        if (bookingDtoIn.getEnd().equals(bookingDtoIn.getStart()))
+            throw new ValidationException("End time must not be equals Start time");
+        Booking booking = bookingMapper.toBooking(bookingDtoIn);
+        if (Objects.equals(user.getId(), item.getOwner().getId())) throw new NotFoundException("Booker ID: "
+                + user.getId() + " not be equal to owner ID: " + item.getOwner().getId());
+
+        booking.setItem(item);
+        booking.setStatus(BookingStatus.WAITING);
+        booking.setBooker(user);
+        return booking;
+    }
+
+    private BookingCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : BookingCursor.decode(cursor);
+    }
+
+    private BookingCursorPage toCursorPage(List<BookingDto> bookings, int size) {
+        String next = null;
+        if (bookings.size() > size) {
+            bookings = bookings.subList(0, size);
+            next = BookingCursor.of(bookings.get(size - 1)).encode();
+        }
+        return new BookingCursorPage(bookings, next);
+    }
 }
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public class BookingBatchResult {
+    private int index;
+    private int status;
+    private BookingDto booking;
+    private String error;
+
+    public static BookingBatchResult created(int index, BookingDto booking) {
+        return new BookingBatchResult(index, HttpStatus.OK.value(), booking, null);
+    }
+
+    public static BookingBatchResult failed(int index, HttpStatus status, String error) {
+        return new BookingBatchResult(index, status.value(), null, error);
+    }
+}
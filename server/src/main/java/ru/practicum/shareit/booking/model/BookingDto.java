@@ -21,4 +21,13 @@ public class BookingDto {
     private BookingStatus status;
     private User booker;
     private Item item;
+
+    public BookingDto(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status,
+                      Long bookerId, String bookerName, String bookerEmail,
+                      Long itemId, String itemName, String itemDescription, Boolean itemAvailable, Long itemRequestId,
+                      Long ownerId, String ownerName, String ownerEmail) {
+        this(id, start, end, status, new User(bookerId, bookerName, bookerEmail),
+                new Item(itemId, itemName, itemDescription, itemAvailable, new User(ownerId, ownerName, ownerEmail),
+                        itemRequestId));
+    }
 }
@@ -2,6 +2,8 @@ package ru.practicum.shareit.booking.model;
 
 import lombok.NoArgsConstructor;
 import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
 
 @NoArgsConstructor
 @Component
@@ -12,8 +14,10 @@ public class BookingMapper {
         bookingDto.setStart(booking.getStart());
         bookingDto.setEnd(booking.getEnd());
         bookingDto.setStatus(booking.getStatus());
-        bookingDto.setBooker(booking.getBooker());
-        bookingDto.setItem(booking.getItem());
+        bookingDto.setBooker(copyOf(booking.getBooker()));
+        Item item = booking.getItem();
+        bookingDto.setItem(new Item(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                copyOf(item.getOwner()), item.getRequestId()));
         return bookingDto;
     }
 
@@ -30,4 +34,15 @@ public class BookingMapper {
         bookingDtoForItemDto.setBookerId(booking.getBooker().getId());
         return bookingDtoForItemDto;
     }
+
+    public BookingDtoForItemDto toBookingDtoForItemDto(BookingInterval bookingInterval) {
+        BookingDtoForItemDto bookingDtoForItemDto = new BookingDtoForItemDto();
+        bookingDtoForItemDto.setId(bookingInterval.getId());
+        bookingDtoForItemDto.setBookerId(bookingInterval.getBookerId());
+        return bookingDtoForItemDto;
+    }
+
+    private User copyOf(User user) {
+        return new User(user.getId(), user.getName(), user.getEmail());
+    }
 }
@@ -16,4 +16,8 @@ public enum StateStatus {
         }
         throw new UnsupportedStatusException("Unknown state: UNSUPPORTED_STATUS");
     }
+
+    public boolean isOrderedById() {
+        return this == CURRENT || this == WAITING || this == REJECTED;
+    }
 }
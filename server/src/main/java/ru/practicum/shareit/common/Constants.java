@@ -4,7 +4,11 @@ import org.springframework.data.domain.Sort;
 
 public class Constants {
     public static final String HEADER_USER_ID = "X-Sharer-User-Id";
-    public static final Sort SORT_BY_START_DESC = Sort.by(Sort.Direction.DESC, "start");
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final int ITEM_NAME_MAX_LENGTH = 255;
+    public static final int ITEM_DESCRIPTION_MAX_LENGTH = 500;
+    public static final Sort SORT_BY_START_DESC = Sort.by(Sort.Direction.DESC, "start", "id");
     public static final Sort SORT_BY_CREATED_DESC = Sort.by(Sort.Direction.DESC, "created");
     public static final Sort SORT_BY_ID_ASC = Sort.by(Sort.Direction.ASC, "id");
 
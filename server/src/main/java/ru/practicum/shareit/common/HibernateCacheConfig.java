@@ -0,0 +1,70 @@
+package ru.practicum.shareit.common;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class HibernateCacheConfig {
+    public static final String USERS_REGION = "users";
+    public static final String ITEMS_REGION = "items";
+    public static final String REQUESTS_REGION = "requests";
+    public static final String COMMENTS_REGION = "comments";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${shareit.cache.hibernate.users-size:10000}")
+    private long usersSize;
+
+    @Value("${shareit.cache.hibernate.items-size:10000}")
+    private long itemsSize;
+
+    @Value("${shareit.cache.hibernate.requests-size:10000}")
+    private long requestsSize;
+
+    @Value("${shareit.cache.hibernate.comments-size:50000}")
+    private long commentsSize;
+
+    @Value("${shareit.cache.hibernate.query-results-size:10000}")
+    private long queryResultsSize;
+
+    @Value("${shareit.cache.hibernate.expire-after-write-minutes:10}")
+    private long expireAfterWriteMinutes;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        createRegion(cacheManager, USERS_REGION, usersSize, true);
+        createRegion(cacheManager, ITEMS_REGION, itemsSize, true);
+        createRegion(cacheManager, REQUESTS_REGION, requestsSize, true);
+        createRegion(cacheManager, COMMENTS_REGION, commentsSize, true);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, queryResultsSize, true);
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, false);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maximumSize, boolean expiring) {
+        if (cacheManager.getCache(region) != null) cacheManager.destroyCache(region);
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (expiring) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(expireAfterWriteMinutes)));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
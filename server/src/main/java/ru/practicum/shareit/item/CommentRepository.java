@@ -1,10 +1,32 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.item.model.Comment;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    @Query("SELECT c " +
+            "FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.item.id = ?1")
     List<Comment> findAllByItemId(Long itemId);
+
+    @Query("SELECT c " +
+            "FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.item.id IN ?1 " +
+            "ORDER BY c.id")
+    List<Comment> findAllByItemIdIn(Collection<Long> itemIds);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.author.id = ?1")
+    List<Long> findIdsByAuthorId(Long authorId);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.item.id IN ?1")
+    List<Long> findIdsByItemIdIn(Collection<Long> itemIds);
 }
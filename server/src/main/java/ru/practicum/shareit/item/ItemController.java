@@ -2,6 +2,9 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +19,15 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.CommentDto;
 import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.model.ItemImportResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Collection;
 
 import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+import static ru.practicum.shareit.common.Constants.TEXT_CSV_VALUE;
 
 @Validated
 @Slf4j
@@ -36,6 +44,14 @@ public class ItemController {
         return itemService.create(userId, itemDto);
     }
 
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ItemImportResult importItems(InputStream body,
+                                        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                        @RequestHeader(HEADER_USER_ID) Long userId) throws IOException {
+        log.info("Import ItemDtos of user {} as {}", userId, contentType);
+        return itemService.importItems(userId, MediaType.parseMediaType(contentType), body);
+    }
+
     @PatchMapping("/{id}")
     public ItemDto update(@PathVariable Long id,
                           @RequestBody ItemDto itemDto,
@@ -67,10 +83,30 @@ public class ItemController {
 
     @GetMapping("/search")
     public Collection<ItemDto> search(@RequestParam String text,
+                                      @RequestParam(required = false) String mode,
                                       @RequestParam(defaultValue = "0") Integer from,
                                       @RequestParam(defaultValue = "10") Integer size) {
-        log.info("Get ItemsDto contains {} from {} size {}", text, from, size);
-        return itemService.search(text, from, size);
+        log.info("Get ItemsDto contains {} mode {} from {} size {}", text, mode, from, size);
+        return itemService.search(text, mode, from, size);
+    }
+
+    @GetMapping("/available")
+    public Collection<ItemDto> getAvailable(@RequestParam(defaultValue = "") String text,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                            LocalDateTime start,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                            LocalDateTime end,
+                                            @RequestParam(defaultValue = "0") int from,
+                                            @RequestParam(defaultValue = "10") int size) {
+        log.info("Get ItemsDto contains {} free from {} to {} from {} size {}", text, start, end, from, size);
+        return itemService.getAvailable(text, start, end, from, size);
+    }
+
+    @GetMapping("/suggest")
+    public Collection<String> suggest(@RequestParam String prefix,
+                                      @RequestParam(defaultValue = "10") int size) {
+        log.info("Get item names starting with {} size {}", prefix, size);
+        return itemService.suggest(prefix, size);
     }
 
     @PostMapping("/{itemId}/comment")
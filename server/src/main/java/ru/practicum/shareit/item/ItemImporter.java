@@ -0,0 +1,298 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.common.exeptions.ValidationException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.model.ItemImportError;
+import ru.practicum.shareit.item.model.ItemImportResult;
+import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.practicum.shareit.common.Constants.ITEM_DESCRIPTION_MAX_LENGTH;
+import static ru.practicum.shareit.common.Constants.ITEM_NAME_MAX_LENGTH;
+import static ru.practicum.shareit.common.Constants.TEXT_CSV_VALUE;
+
+/**
+ * Imports an owner's items from a CSV or NDJSON upload.
+ * <p>
+ * CSV values follow RFC 4180: a quoted value may contain commas, doubled quotes and line breaks, and a row is
+ * reported by the line it starts on. The rows are saved in batches. If a batch fails to save, the earlier batches
+ * stay imported, the rows of the failed batch are reported, and the rest of the upload is not read.
+ */
+@Component
+public class ItemImporter {
+    private static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+    private static final int CSV_RECORD_MAX_LENGTH = 64 * 1024;
+
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final ItemMapper itemMapper;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemNameSuggester itemNameSuggester;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ItemImporter(ItemRepository itemRepository, RequestRepository requestRepository, ItemMapper itemMapper,
+                        ItemSearchIndex itemSearchIndex, ItemNameSuggester itemNameSuggester,
+                        ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                        @Value("${shareit.import.batch-size:500}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.requestRepository = requestRepository;
+        this.itemMapper = itemMapper;
+        this.itemSearchIndex = itemSearchIndex;
+        this.itemNameSuggester = itemNameSuggester;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public ItemImportResult importItems(User owner, MediaType contentType, InputStream in) throws IOException {
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            throw new ValidationException("Unsupported content type: " + contentType);
+        }
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        RecordReader reader = new RecordReader(new BufferedReader(new InputStreamReader(in, charset)), csv);
+
+        Function<String, ItemDto> parser = csv ? null : this::parseJson;
+        List<Item> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        List<ItemImportError> errors = new ArrayList<>();
+        int imported = 0;
+        try {
+            String record;
+            while ((record = reader.next()) != null) {
+                if (record.isBlank()) continue;
+                if (parser == null) {
+                    try {
+                        parser = csvParser(record);
+                    } catch (ValidationException e) {
+                        errors.add(new ItemImportError(reader.getRecordLine(), e.getMessage()));
+                        return new ItemImportResult(imported, errors.size(), false, errors);
+                    }
+                    continue;
+                }
+                try {
+                    Item item = toItem(parser.apply(record));
+                    item.setOwner(owner);
+                    batch.add(item);
+                    batchLines.add(reader.getRecordLine());
+                } catch (ValidationException e) {
+                    errors.add(new ItemImportError(reader.getRecordLine(), e.getMessage()));
+                }
+                if (batch.size() == batchSize) {
+                    imported += save(batch, batchLines, errors);
+                }
+            }
+            imported += save(batch, batchLines, errors);
+        } catch (DataAccessException e) {
+            return new ItemImportResult(imported, errors.size(), false, errors);
+        }
+        return new ItemImportResult(imported, errors.size(), true, errors);
+    }
+
+    private int save(List<Item> batch, List<Long> batchLines, List<ItemImportError> errors) {
+        try {
+            Set<Long> requestIds = batch.stream()
+                    .map(Item::getRequestId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            if (!requestIds.isEmpty()) {
+                Set<Long> existingRequestIds = requestRepository.findExistingIds(requestIds);
+                int kept = 0;
+                for (int i = 0; i < batch.size(); i++) {
+                    Long requestId = batch.get(i).getRequestId();
+                    if (requestId != null && !existingRequestIds.contains(requestId)) {
+                        errors.add(new ItemImportError(batchLines.get(i), "Request not found: " + requestId));
+                    } else {
+                        batch.set(kept, batch.get(i));
+                        batchLines.set(kept++, batchLines.get(i));
+                    }
+                }
+                batch.subList(kept, batch.size()).clear();
+                batchLines.subList(kept, batchLines.size()).clear();
+            }
+            int saved = batch.size();
+            if (saved > 0) {
+                List<Item> savedItems = transactionTemplate.execute(status -> itemRepository.saveAll(batch));
+                savedItems.forEach(itemSearchIndex::index);
+                savedItems.forEach(itemNameSuggester::index);
+            }
+            return saved;
+        } catch (DataAccessException e) {
+            String error = "Not saved: " + e.getMostSpecificCause().getMessage();
+            batchLines.forEach(line -> errors.add(new ItemImportError(line, error)));
+            throw e;
+        } finally {
+            batch.clear();
+            batchLines.clear();
+        }
+    }
+
+    private Item toItem(ItemDto itemDto) {
+        if (itemDto.getName() == null || itemDto.getName().isBlank()) {
+            throw new ValidationException("Name must not be empty");
+        }
+        if (itemDto.getName().length() > ITEM_NAME_MAX_LENGTH) {
+            throw new ValidationException("Name must not be longer than " + ITEM_NAME_MAX_LENGTH + " characters");
+        }
+        if (itemDto.getDescription() == null || itemDto.getDescription().isBlank()) {
+            throw new ValidationException("Description must not be empty");
+        }
+        if (itemDto.getDescription().length() > ITEM_DESCRIPTION_MAX_LENGTH) {
+            throw new ValidationException("Description must not be longer than " + ITEM_DESCRIPTION_MAX_LENGTH
+                    + " characters");
+        }
+        if (itemDto.getAvailable() == null) throw new ValidationException("Available must not be empty");
+        itemDto.setId(null);
+        return itemMapper.toItem(itemDto);
+    }
+
+    private ItemDto parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, ItemDto.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Function<String, ItemDto> csvParser(String headerLine) {
+        List<String> header = splitCsvLine(headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        Integer name = columns.get("name");
+        Integer description = columns.get("description");
+        Integer available = columns.get("available");
+        Integer requestId = columns.get("requestid");
+        if (name == null || description == null || available == null) {
+            throw new ValidationException("CSV header must contain name, description and available columns");
+        }
+        return line -> {
+            List<String> values = splitCsvLine(line);
+            if (values.size() != header.size()) {
+                throw new ValidationException("Expected " + header.size() + " values but found " + values.size());
+            }
+            ItemDto itemDto = new ItemDto();
+            itemDto.setName(values.get(name));
+            itemDto.setDescription(values.get(description));
+            itemDto.setAvailable(parseBoolean(values.get(available).trim()));
+            if (requestId != null && !values.get(requestId).isBlank()) {
+                itemDto.setRequestId(parseLong(values.get(requestId).trim()));
+            }
+            return itemDto;
+        };
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value.isEmpty()) return null;
+        if (value.equalsIgnoreCase("true")) return Boolean.TRUE;
+        if (value.equalsIgnoreCase("false")) return Boolean.FALSE;
+        throw new ValidationException("Invalid available value: " + value);
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid requestId value: " + value);
+        }
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) throw new ValidationException("Unterminated quoted value");
+        values.add(value.toString());
+        return values;
+    }
+
+    private static int countQuotes(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') quotes++;
+        }
+        return quotes;
+    }
+
+    private static class RecordReader {
+        private final BufferedReader reader;
+        private final boolean csv;
+        private long lineNumber;
+        private long recordLine;
+
+        RecordReader(BufferedReader reader, boolean csv) {
+            this.reader = reader;
+            this.csv = csv;
+        }
+
+        String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) return null;
+            recordLine = ++lineNumber;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) line = line.substring(1);
+            int quotes = csv ? countQuotes(line) : 0;
+            if (quotes % 2 == 0) return line;
+
+            StringBuilder record = new StringBuilder(line);
+            while (quotes % 2 != 0 && record.length() <= CSV_RECORD_MAX_LENGTH && (line = reader.readLine()) != null) {
+                lineNumber++;
+                record.append('\n').append(line);
+                quotes += countQuotes(line);
+            }
+            return record.toString();
+        }
+
+        long getRecordLine() {
+            return recordLine;
+        }
+    }
+}
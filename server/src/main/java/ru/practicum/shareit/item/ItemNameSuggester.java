@@ -0,0 +1,144 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class ItemNameSuggester {
+    private final Node root = new Node();
+    private final Map<Long, String> namesByItemId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.keys = Node.NO_KEYS;
+            root.children = Node.NO_CHILDREN;
+            root.count = 0;
+            namesByItemId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            removeName(item.getId());
+            if (!Boolean.TRUE.equals(item.getAvailable()) || item.getName() == null || item.getName().isBlank()) return;
+            String name = item.getName().trim();
+            Node node = root;
+            for (char key : name.toLowerCase().toCharArray()) {
+                node = node.childOrCreate(key);
+            }
+            node.count++;
+            node.name = name;
+            namesByItemId.put(item.getId(), name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeName(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        List<String> names = new ArrayList<>();
+        if (prefix == null || prefix.isBlank() || size <= 0) return names;
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (char key : prefix.trim().toLowerCase().toCharArray()) {
+                node = node.child(key);
+                if (node == null) return names;
+            }
+            collect(node, names, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return names;
+    }
+
+    private void collect(Node node, List<String> names, int size) {
+        if (node.count > 0) names.add(node.name);
+        for (Node child : node.children) {
+            if (names.size() >= size) return;
+            collect(child, names, size);
+        }
+    }
+
+    private void removeName(Long itemId) {
+        String name = namesByItemId.remove(itemId);
+        if (name != null) remove(root, name.toLowerCase().toCharArray(), 0);
+    }
+
+    private boolean remove(Node node, char[] keys, int depth) {
+        if (depth == keys.length) {
+            node.count--;
+        } else {
+            Node child = node.child(keys[depth]);
+            if (child != null && remove(child, keys, depth + 1)) node.removeChild(keys[depth]);
+        }
+        return node != root && node.count == 0 && node.children.length == 0;
+    }
+
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int count;
+        private String name;
+
+        Node child(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position >= 0) return children[position];
+            position = -position - 1;
+            Node child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newKeys[position] = key;
+            newChildren[position] = child;
+            System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position < 0) return;
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, keys.length - position - 1);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
@@ -2,12 +2,18 @@ package ru.practicum.shareit.item;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 public interface ItemRepository extends JpaRepository<Item, Long> {
     @Query("select i " +
             "from Item i " +
@@ -15,7 +21,38 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             " or upper(i.description) like upper(concat('%', ?1, '%')))")
     List<Item> search(String text, Pageable pageable);
 
+    @Query(value = "SELECT i.* " +
+            "FROM items i, to_tsquery('simple', ?1) query " +
+            "WHERE i.is_available = true AND i.search_vector @@ query " +
+            "ORDER BY ts_rank(i.search_vector, query) DESC, i.item_id",
+            nativeQuery = true)
+    List<Item> searchFullText(String tsQuery, Pageable pageable);
+
+    @Query("select i " +
+            "from Item i join fetch i.owner " +
+            "where i.available = true and i.id > ?1 " +
+            "order by i.id")
+    List<Item> findAvailableAfter(Long itemId, Pageable pageable);
+
+    @Query("select i " +
+            "from Item i join fetch i.owner " +
+            "where i.id in ?1")
+    List<Item> findAllWithOwnerByIdIn(Collection<Long> itemIds);
+
     List<Item> findItemsByOwnerId(Long ownerId, Pageable pageable);
 
+    @Query("select i.id from Item i where i.owner.id = ?1")
+    List<Long> findIdsByOwnerId(Long ownerId);
+
+    @Query("select i.id from Item i where i.requestId in (select r.id from ItemRequest r where r.requestorId = ?1)")
+    List<Long> findIdsByRequestorId(Long requestorId);
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    @Query("select i " +
+            "from Item i join fetch i.owner " +
+            "where i.requestId = ?1")
     List<Item> findAllByRequestId(Long itemRequestId, Sort sort);
+
+    @EntityGraph(attributePaths = "owner")
+    List<Item> findAllByRequestIdIn(Collection<Long> itemRequestIds, Sort sort);
 }
@@ -0,0 +1,273 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+@Component
+public class ItemSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Long, String[]> termsByItemId = new HashMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final PostingList availableIds = new PostingList();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static Stream<String> tokenize(String text) {
+        if (text == null) return Stream.empty();
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase())
+                .filter(term -> !term.isEmpty());
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByItemId.clear();
+            termsByTrigram.clear();
+            availableIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(item.getId());
+            if (!Boolean.TRUE.equals(item.getAvailable())) return;
+            String[] terms = Stream.concat(tokenize(item.getName()), tokenize(item.getDescription()))
+                    .distinct()
+                    .toArray(String[]::new);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, this::newTerm).add(item.getId());
+            }
+            termsByItemId.put(item.getId(), terms);
+            availableIds.add(item.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(Collection<Long> itemIds) {
+        lock.writeLock().lock();
+        try {
+            itemIds.forEach(this::removeTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> findAll(long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return availableIds.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .boxed()
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String text, long offset, int limit) {
+        String[] tokens = tokenize(text).distinct().toArray(String[]::new);
+        if (tokens.length == 0) return List.of();
+        long[] matches = null;
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                long[] tokenMatches = findByPrefix(token);
+                matches = matches == null ? tokenMatches : intersect(matches, tokenMatches);
+                if (matches.length == 0) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return LongStream.of(matches)
+                .skip(offset)
+                .limit(limit)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    public List<Long> searchSimilar(String text, double threshold, long offset, int limit) {
+        String[] tokens = tokenize(text).distinct().toArray(String[]::new);
+        if (tokens.length == 0) return List.of();
+        Map<Long, Double> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = new HashMap<>();
+                findSimilarTerms(token, threshold).forEach((term, similarity) ->
+                        postings.get(term).stream().forEach(itemId -> tokenScores.merge(itemId, similarity, Math::max)));
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((itemId, score) -> score + tokenScores.get(itemId));
+                }
+                if (scores.isEmpty()) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Double> findSimilarTerms(String token, double threshold) {
+        Set<String> tokenTrigrams = trigrams(token);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : tokenTrigrams) {
+            termsByTrigram.getOrDefault(trigram, Set.of())
+                    .forEach(term -> sharedTrigrams.merge(term, 1, Integer::sum));
+        }
+        Map<String, Double> similarTerms = new HashMap<>();
+        sharedTrigrams.forEach((term, shared) -> {
+            double similarity = (double) shared / (tokenTrigrams.size() + trigrams(term).size() - shared);
+            if (similarity >= threshold) similarTerms.put(term, similarity);
+        });
+        return similarTerms;
+    }
+
+    private static Set<String> trigrams(String term) {
+        String padded = "  " + term + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private PostingList newTerm(String term) {
+        trigrams(term).forEach(trigram -> termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term));
+        return new PostingList();
+    }
+
+    private void removeTerms(Long itemId) {
+        String[] terms = termsByItemId.remove(itemId);
+        if (terms == null) return;
+        availableIds.remove(itemId);
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null && postingList.remove(itemId) && postingList.isEmpty()) {
+                postings.remove(term);
+                trigrams(term).forEach(trigram -> {
+                    Set<String> trigramTerms = termsByTrigram.get(trigram);
+                    trigramTerms.remove(term);
+                    if (trigramTerms.isEmpty()) termsByTrigram.remove(trigram);
+                });
+            }
+        }
+    }
+
+    private long[] findByPrefix(String prefix) {
+        Collection<PostingList> matched = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values();
+        if (matched.isEmpty()) return new long[0];
+        if (matched.size() == 1) return matched.iterator().next().toArray();
+        return matched.stream()
+                .flatMapToLong(PostingList::stream)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) return;
+                insert(-position - 1, id);
+            } else {
+                insert(size, id);
+            }
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) return false;
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            ids = new long[4];
+            size = 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        LongStream stream() {
+            return Arrays.stream(ids, 0, size);
+        }
+
+        private void insert(int position, long id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingDtoForItemDto;
 import ru.practicum.shareit.booking.model.BookingMapper;
-import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.common.AfterCommit;
 import ru.practicum.shareit.common.exeptions.NotFoundException;
 import ru.practicum.shareit.common.exeptions.ValidationException;
 import ru.practicum.shareit.item.model.Comment;
@@ -16,39 +24,87 @@ import ru.practicum.shareit.item.model.CommentDto;
 import ru.practicum.shareit.item.model.CommentMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.model.ItemImportResult;
 import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.item.model.SearchMode;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.common.Constants.SORT_BY_ID_ASC;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemService {
+    private static final int INDEX_REBUILD_BATCH_SIZE = 1000;
+    private static final int AVAILABILITY_BATCH_SIZE = 500;
+
     private final BookingRepository bookingRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
     private final ItemRepository itemRepository;
     private final ItemMapper itemMapper;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
     private final BookingMapper bookingMapper;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemNameSuggester itemNameSuggester;
+    private final ItemImporter itemImporter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    @Value("${shareit.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    private boolean fullTextSupported;
+
+    @Value("${shareit.search.trigram.similarity-threshold:0.2}")
+    private double trigramThreshold;
+
+    @PostConstruct
+    public void checkFullTextSupport() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            fullTextSupported = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        }
+        if (searchMode == SearchMode.FULL_TEXT && !fullTextSupported) {
+            log.warn("Search mode FULL_TEXT needs PostgreSQL, falling back to INDEX");
+            searchMode = SearchMode.INDEX;
+        }
+    }
 
+    @Transactional
     public ItemDto create(Long userId, ItemDto itemDto) {
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("User not found: " + userId));
         Item item = itemMapper.toItem(itemDto);
         item.setOwner(user);
         if (itemDto.getRequestId() != null) item.setRequestId(itemDto.getRequestId());
-        return itemMapper.toItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        indexAfterCommit(savedItem);
+        return itemMapper.toItemDto(savedItem);
     }
 
+    public ItemImportResult importItems(Long userId, MediaType contentType, InputStream in) throws IOException {
+        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("User not found: " + userId));
+        return itemImporter.importItems(user, contentType, in);
+    }
+
+    @Transactional
     public ItemDto update(Long userId, Long itemId, ItemDto itemDto) {
         if (userId == null) throw new ValidationException("User Id must not be empty");
         if (itemId == null) throw new ValidationException("Item Id must not be empty");
@@ -60,7 +116,9 @@ public class ItemService {
         if (itemDto.getDescription() != null) item.setDescription(itemDto.getDescription());
         if (itemDto.getAvailable() != null) item.setAvailable(itemDto.getAvailable());
 
-        ItemDto finalItemDto = itemMapper.toItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        indexAfterCommit(savedItem);
+        ItemDto finalItemDto = itemMapper.toItemDto(savedItem);
         finalItemDto.setLastBooking(getLastBooking(finalItemDto.getId()));
         finalItemDto.setNextBooking(getNextBooking(finalItemDto.getId()));
         finalItemDto.setComments(getCommentsByItemDTO(finalItemDto.getId()));
@@ -70,8 +128,27 @@ public class ItemService {
 
     public void delete(Long id) {
         itemRepository.deleteById(id);
+        entityManagerFactory.getCache().evict(Comment.class);
+        entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+        bookingIntervalIndex.evict(id);
+        itemSearchIndex.remove(id);
+        itemNameSuggester.remove(id);
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndexes() {
+        itemSearchIndex.clear();
+        itemNameSuggester.clear();
+        List<Item> items = itemRepository.findAvailableAfter(0L, PageRequest.ofSize(INDEX_REBUILD_BATCH_SIZE));
+        while (!items.isEmpty()) {
+            items.forEach(itemSearchIndex::index);
+            items.forEach(itemNameSuggester::index);
+            items = itemRepository.findAvailableAfter(items.get(items.size() - 1).getId(),
+                    PageRequest.ofSize(INDEX_REBUILD_BATCH_SIZE));
+        }
+    }
+
+    @Transactional(readOnly = true)
     public ItemDto getById(Long id, Long userId) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Item not found: " + id));
@@ -86,24 +163,99 @@ public class ItemService {
         return itemDto;
     }
 
+    @Transactional(readOnly = true)
     public Collection<ItemDto> getAll(Long userId, int from, int size) {
         Pageable sortedById = PageRequest.of(from, size, SORT_BY_ID_ASC);
-        return itemRepository.findItemsByOwnerId(userId, sortedById).stream()
+        List<ItemDto> itemDtos = itemRepository.findItemsByOwnerId(userId, sortedById).stream()
                 .map(itemMapper::toItemDto)
-                .peek(itemDto -> itemDto.setLastBooking(getLastBooking(itemDto.getId())))
-                .peek(itemDto -> itemDto.setNextBooking(getNextBooking(itemDto.getId())))
-                .peek(itemDto -> itemDto.setComments(getCommentsByItemDTO(itemDto.getId())))
                 .collect(Collectors.toList());
+        setBookingsAndComments(itemDtos);
+        return itemDtos;
     }
 
-    public Collection<ItemDto> search(String text, int from, int size) {
+    @Transactional(readOnly = true)
+    public Collection<ItemDto> search(String text, String mode, int from, int size) {
         if (text.isEmpty()) return new ArrayList<>();
-        Pageable sortedById = PageRequest.of(from, size, SORT_BY_ID_ASC);
-        return itemRepository.search(text, sortedById).stream()
+        List<Item> items;
+        SearchMode selectedMode = mode != null ? SearchMode.from(mode) : searchMode;
+        if (selectedMode == SearchMode.FULL_TEXT && !fullTextSupported) selectedMode = SearchMode.INDEX;
+        switch (selectedMode) {
+            case INDEX:
+                items = hydrate(itemSearchIndex.search(text, (long) from * size, size));
+                break;
+            case TRIGRAM:
+                items = hydrate(itemSearchIndex.searchSimilar(text, trigramThreshold, (long) from * size, size));
+                break;
+            case FULL_TEXT:
+                String tsQuery = toPrefixTsQuery(text);
+                if (tsQuery.isEmpty()) return new ArrayList<>();
+                items = itemRepository.searchFullText(tsQuery, PageRequest.of(from, size));
+                break;
+            default:
+                items = itemRepository.search(text, PageRequest.of(from, size, SORT_BY_ID_ASC));
+        }
+        return items.stream()
                 .map(itemMapper::toItemDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public Collection<ItemDto> getAvailable(String text, LocalDateTime start, LocalDateTime end, int from, int size) {
+        if (!end.isAfter(start)) throw new ValidationException("End time must be after Start time");
+        boolean allItems = text == null || text.isBlank();
+        int batchSize = Math.min(size, AVAILABILITY_BATCH_SIZE);
+        long skipped = (long) from * size;
+        List<Long> itemIds = new ArrayList<>();
+        long offset = 0;
+        List<Long> batch;
+        do {
+            batch = allItems ? itemSearchIndex.findAll(offset, batchSize)
+                    : itemSearchIndex.search(text, offset, batchSize);
+            offset += batch.size();
+            bookingIntervalIndex.load(batch);
+            for (Long itemId : batch) {
+                if (itemIds.size() == size) break;
+                if (bookingIntervalIndex.hasOverlap(itemId, start, end)) continue;
+                if (skipped > 0) {
+                    skipped--;
+                } else {
+                    itemIds.add(itemId);
+                }
+            }
+        } while (!batch.isEmpty() && batch.size() == batchSize && itemIds.size() < size);
+        return hydrate(itemIds).stream()
+                .map(itemMapper::toItemDto)
+                .collect(Collectors.toList());
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        return itemNameSuggester.suggest(prefix, size);
+    }
+
+    private List<Item> hydrate(List<Long> itemIds) {
+        if (itemIds.isEmpty()) return new ArrayList<>();
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return itemIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void indexAfterCommit(Item item) {
+        AfterCommit.run(() -> {
+            itemSearchIndex.index(item);
+            itemNameSuggester.index(item);
+        });
+    }
+
+    private String toPrefixTsQuery(String text) {
+        return ItemSearchIndex.tokenize(text)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    @Transactional
     public CommentDto createComment(Long userId, Long itemId, Comment comment) {
         if (comment.getText().isBlank()) throw new ValidationException("Comment must not be empty");
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("User not found: " + userId));
@@ -116,32 +268,41 @@ public class ItemService {
         return commentMapper.toCommentDto(commentRepository.save(comment));
     }
 
+    @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByItemDTO(Long id) {
         return commentRepository.findAllByItemId(id).stream().map(commentMapper::toCommentDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<Item> getItemsByRequestId(Long itemRequestId) {
         return itemRepository.findAllByRequestId(itemRequestId, SORT_BY_ID_ASC);
     }
 
-    public BookingDtoForItemDto getLastBooking(Long itemId) {
-        Optional<Booking> lastBooking = bookingRepository.findFirstByItemIdAndStatusAndEndBeforeOrderByEndDesc(itemId,
-                BookingStatus.APPROVED, LocalDateTime.now());
-
-        Optional<Booking> lastBookingAction = bookingRepository.findByItemIdAndStatusAndStartBeforeAndEndAfter(itemId,
-                BookingStatus.APPROVED, LocalDateTime.now(), LocalDateTime.now());
+    private void setBookingsAndComments(List<ItemDto> itemDtos) {
+        if (itemDtos.isEmpty()) return;
+        List<Long> itemIds = itemDtos.stream().map(ItemDto::getId).collect(Collectors.toList());
+        bookingIntervalIndex.load(itemIds);
+        Map<Long, List<CommentDto>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::toCommentDto, Collectors.toList())));
 
-        if (lastBookingAction.isPresent()) {
-            return lastBookingAction.map(bookingMapper::toBookingDtoForItemDto).orElse(null);
-        } else {
-            return lastBooking.map(bookingMapper::toBookingDtoForItemDto).orElse(null);
+        for (ItemDto itemDto : itemDtos) {
+            itemDto.setLastBooking(getLastBooking(itemDto.getId()));
+            itemDto.setNextBooking(getNextBooking(itemDto.getId()));
+            itemDto.setComments(comments.getOrDefault(itemDto.getId(), new ArrayList<>()));
         }
     }
 
+    public BookingDtoForItemDto getLastBooking(Long itemId) {
+        return bookingIntervalIndex.findLast(itemId, LocalDateTime.now())
+                .map(bookingMapper::toBookingDtoForItemDto)
+                .orElse(null);
+    }
+
     public BookingDtoForItemDto getNextBooking(Long itemId) {
-        Optional<Booking> nextBooking = bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStart(itemId,
-                BookingStatus.APPROVED, LocalDateTime.now());
-        return nextBooking.map(bookingMapper::toBookingDtoForItemDto).orElse(null);
+        return bookingIntervalIndex.findNext(itemId, LocalDateTime.now())
+                .map(bookingMapper::toBookingDtoForItemDto)
+                .orElse(null);
     }
 }
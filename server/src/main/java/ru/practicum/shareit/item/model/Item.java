@@ -5,17 +5,26 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import static ru.practicum.shareit.common.Constants.ITEM_DESCRIPTION_MAX_LENGTH;
+import static ru.practicum.shareit.common.Constants.ITEM_NAME_MAX_LENGTH;
+import static ru.practicum.shareit.common.HibernateCacheConfig.ITEMS_REGION;
+
 @EqualsAndHashCode
 @ToString
 @Getter
@@ -23,24 +32,29 @@ import javax.persistence.Table;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ITEMS_REGION)
 @Table(name = "items")
 public class Item {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     @Column(name = "item_id", nullable = false)
     private Long id;
 
-    @Column(name = "name", nullable = false)
+    @Column(name = "name", nullable = false, length = ITEM_NAME_MAX_LENGTH)
     private String name;
 
-    @Column(name = "description", length = 1000)
+    @Column(name = "description", length = ITEM_DESCRIPTION_MAX_LENGTH)
     private String description;
 
     @Column(name = "is_available", nullable = false)
     private Boolean available;
 
-    @ManyToOne
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
     private User owner;
 
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemImportResult {
+    private int imported;
+    private int rejected;
+    private boolean completed;
+    private List<ItemImportError> errors;
+}
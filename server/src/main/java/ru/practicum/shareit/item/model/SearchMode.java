@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.model;
+
+import ru.practicum.shareit.common.exeptions.ValidationException;
+
+public enum SearchMode {
+    LIKE,
+    FULL_TEXT,
+    INDEX,
+    TRIGRAM;
+
+    public static SearchMode from(String mode) {
+        for (SearchMode value : SearchMode.values()) {
+            if (value.name().equalsIgnoreCase(mode)) return value;
+        }
+        throw new ValidationException("Unknown search mode: " + mode);
+    }
+}
@@ -4,9 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.exeptions.NotFoundException;
 import ru.practicum.shareit.common.exeptions.ValidationException;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequestDtoIn;
@@ -15,6 +17,7 @@ import ru.practicum.shareit.user.UserRepository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.common.Constants.SORT_BY_CREATED_DESC;
@@ -28,8 +31,9 @@ public class ItemRequestService {
     private final ItemRepository itemRepository;
     private final ItemRequestMapper itemRequestMapper;
 
+    @Transactional
     public ItemRequestDto create(Long userId, ItemRequestDtoIn itemRequestDtoIn) {
-        if (!userRepository.existsById(userId)) throw new NotFoundException("User not found: " + userId);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
         if (itemRequestDtoIn.getDescription() == null || itemRequestDtoIn.getDescription().isBlank()) {
             throw new ValidationException("Description must not be empty");
         }
@@ -38,31 +42,46 @@ public class ItemRequestService {
         return itemRequestMapper.toItemRequestDto(requestRepository.save(itemRequest));
     }
 
+    @Transactional(readOnly = true)
     public List<ItemRequestDto> getAllByUser(Long userId) {
-        if (!userRepository.existsById(userId)) throw new NotFoundException("User not found: " + userId);
-        return requestRepository.findAllByRequestorId(userId, SORT_BY_CREATED_DESC).stream()
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
+        List<ItemRequestDto> itemRequestDtos = requestRepository.findAllByRequestorId(userId, SORT_BY_CREATED_DESC)
+                .stream()
                 .map(itemRequestMapper::toItemRequestDto)
-                .peek(itemRequestDto -> itemRequestDto.setItems(itemRepository.findAllByRequestId(itemRequestDto.getId(),
-                        SORT_BY_ID_ASC)))
                 .collect(Collectors.toList());
+        setItems(itemRequestDtos);
+        return itemRequestDtos;
     }
 
+    @Transactional(readOnly = true)
     public Collection<ItemRequestDto> getAll(Long userId, int from, int size) {
-        if (!userRepository.existsById(userId)) throw new NotFoundException("User not found: " + userId);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
         Pageable sortedByCreated = PageRequest.of(from, size, SORT_BY_CREATED_DESC);
-        return requestRepository.findAllByRequestorIdNot(userId, sortedByCreated).stream()
+        List<ItemRequestDto> itemRequestDtos = requestRepository.findAllByRequestorIdNot(userId, sortedByCreated)
+                .stream()
                 .map(itemRequestMapper::toItemRequestDto)
-                .peek(itemRequestDto -> itemRequestDto.setItems(itemRepository.findAllByRequestId(itemRequestDto.getId(),
-                        SORT_BY_ID_ASC)))
                 .collect(Collectors.toList());
+        setItems(itemRequestDtos);
+        return itemRequestDtos;
     }
 
+    @Transactional(readOnly = true)
     public ItemRequestDto getById(Long requestId, Long userId) {
-        if (!userRepository.existsById(userId)) throw new NotFoundException("User not found: " + userId);
+        if (userRepository.findById(userId).isEmpty()) throw new NotFoundException("User not found: " + userId);
         ItemRequest itemRequest = requestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("ItemRequest not found: " + requestId));
         ItemRequestDto itemRequestDto = itemRequestMapper.toItemRequestDto(itemRequest);
-        itemRequestDto.setItems(itemRepository.findAllByRequestId(itemRequestDto.getId(), SORT_BY_ID_ASC));
+        itemRequestDto.setItems(itemRequestMapper.toItems(itemRepository.findAllByRequestId(itemRequestDto.getId(),
+                SORT_BY_ID_ASC)));
         return itemRequestDto;
     }
-}
\ No newline at end of file
+
+    private void setItems(List<ItemRequestDto> itemRequestDtos) {
+        if (itemRequestDtos.isEmpty()) return;
+        List<Long> requestIds = itemRequestDtos.stream().map(ItemRequestDto::getId).collect(Collectors.toList());
+        Map<Long, List<Item>> items = itemRepository.findAllByRequestIdIn(requestIds, SORT_BY_ID_ASC).stream()
+                .collect(Collectors.groupingBy(Item::getRequestId));
+        itemRequestDtos.forEach(itemRequestDto ->
+                itemRequestDto.setItems(itemRequestMapper.toItems(items.getOrDefault(itemRequestDto.getId(), List.of()))));
+    }
+}
@@ -3,13 +3,22 @@ package ru.practicum.shareit.request;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface RequestRepository extends JpaRepository<ItemRequest, Long> {
 
     List<ItemRequest> findAllByRequestorId(Long requestorId, Sort sort);
 
     List<ItemRequest> findAllByRequestorIdNot(Long requestorId, Pageable pageable);
+
+    @Query("SELECT r.id FROM ItemRequest r WHERE r.requestorId = ?1")
+    List<Long> findIdsByRequestorId(Long requestorId);
+
+    @Query("SELECT r.id FROM ItemRequest r WHERE r.id IN ?1")
+    Set<Long> findExistingIds(Collection<Long> ids);
 }
@@ -2,8 +2,12 @@ package ru.practicum.shareit.request.model;
 
 import lombok.NoArgsConstructor;
 import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Component
@@ -22,4 +26,18 @@ public class ItemRequestMapper {
         itemRequest.setCreated(LocalDateTime.now());
         return itemRequest;
     }
+
+    /**
+     * Copies the answers with their owners so that the response does not hold proxies once the session is closed.
+     */
+    public List<Item> toItems(List<Item> items) {
+        return items.stream()
+                .map(item -> new Item(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                        copyOf(item.getOwner()), item.getRequestId()))
+                .collect(Collectors.toList());
+    }
+
+    private User copyOf(User user) {
+        return user != null ? new User(user.getId(), user.getName(), user.getEmail()) : null;
+    }
 }
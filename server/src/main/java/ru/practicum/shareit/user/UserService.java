@@ -2,13 +2,29 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.common.AfterCommit;
 import ru.practicum.shareit.common.exeptions.ConflictDataException;
 import ru.practicum.shareit.common.exeptions.NotFoundException;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemNameSuggester;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.model.UserMapper;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,13 +34,23 @@ import java.util.stream.Collectors;
 public class UserService {
     private final UserMapper userMapper;
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final CommentRepository commentRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemNameSuggester itemNameSuggester;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
+    @Transactional
     public UserDto create(UserDto userDto) {
         User user = userMapper.toUser(userDto);
         User addedUser = userRepository.save(user);
         return userMapper.toUserDto(addedUser);
     }
 
+    @Transactional
     public UserDto update(Long id, UserDto userDto) {
         Optional<User> userWithEmail = userRepository.findByEmail(userDto.getEmail());
         if (userWithEmail.isPresent() && !userWithEmail.get().getId().equals(id)) {
@@ -38,19 +64,42 @@ public class UserService {
             user.setEmail(userDto.getEmail());
         }
 
-        return userMapper.toUserDto(userRepository.save(user));
+        User savedUser = userRepository.save(user);
+        return userMapper.toUserDto(savedUser);
     }
 
+    /**
+     * The database cascades the delete past Hibernate, so only the cache entries of the cascaded rows are evicted.
+     */
+    @Transactional
     public void delete(Long id) {
+        List<Long> itemIds = new ArrayList<>(itemRepository.findIdsByOwnerId(id));
+        itemIds.addAll(itemRepository.findIdsByRequestorId(id));
+        List<Long> requestIds = requestRepository.findIdsByRequestorId(id);
+        List<Long> commentIds = new ArrayList<>(commentRepository.findIdsByAuthorId(id));
+        if (!itemIds.isEmpty()) commentIds.addAll(commentRepository.findIdsByItemIdIn(itemIds));
+        List<Long> bookedItemIds = bookingRepository.findItemIdsByBookerId(id);
         userRepository.deleteById(id);
+        AfterCommit.run(() -> {
+            Cache cache = entityManagerFactory.getCache();
+            itemIds.forEach(itemId -> cache.evict(Item.class, itemId));
+            requestIds.forEach(requestId -> cache.evict(ItemRequest.class, requestId));
+            commentIds.forEach(commentId -> cache.evict(Comment.class, commentId));
+            itemIds.forEach(bookingIntervalIndex::evict);
+            bookedItemIds.forEach(bookingIntervalIndex::evict);
+            itemSearchIndex.removeAll(itemIds);
+            itemIds.forEach(itemNameSuggester::remove);
+        });
     }
 
+    @Transactional(readOnly = true)
     public UserDto getById(Long id) {
         return userRepository.findById(id)
                 .map(userMapper::toUserDto)
                 .orElseThrow(() -> new NotFoundException("User not found: " + id));
     }
 
+    @Transactional(readOnly = true)
     public Collection<UserDto> getAll() {
         return userRepository.findAll().stream()
                 .map(userMapper::toUserDto)
@@ -0,0 +1,12 @@
+ALTER TABLE items ADD COLUMN IF NOT EXISTS search_vector tsvector
+GENERATED ALWAYS AS (setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_items_search_vector ON items USING GIN (search_vector);
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT ex_bookings_approved_period
+EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date, '[]') WITH &&) WHERE (status = 'APPROVED');
+
+CREATE INDEX IF NOT EXISTS idx_items_available ON items (item_id) WHERE is_available;
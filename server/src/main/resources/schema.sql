@@ -1,7 +1,18 @@
 DROP TABLE IF EXISTS users, requests, items, bookings, comments CASCADE;
+DROP SEQUENCE IF EXISTS users_seq;
+DROP SEQUENCE IF EXISTS requests_seq;
+DROP SEQUENCE IF EXISTS items_seq;
+DROP SEQUENCE IF EXISTS bookings_seq;
+DROP SEQUENCE IF EXISTS comments_seq;
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE IF NOT EXISTS users (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+id BIGINT DEFAULT nextval('users_seq') NOT NULL,
 name VARCHAR(255) NOT NULL,
 email VARCHAR(512) NOT NULL,
 CONSTRAINT pk_user PRIMARY KEY (id),
@@ -9,7 +20,7 @@ CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
 );
 
 CREATE TABLE IF NOT EXISTS requests (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('requests_seq') NOT NULL,
 description VARCHAR(500),
 requestor_id BIGINT NOT NULL,
 created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
@@ -18,7 +29,7 @@ CONSTRAINT fk_request FOREIGN KEY (requestor_id) REFERENCES users(id) ON UPDATE
 );
 
 CREATE TABLE IF NOT EXISTS items (
-item_id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+item_id BIGINT DEFAULT nextval('items_seq') NOT NULL,
 name VARCHAR(255) NOT NULL,
 description VARCHAR(500),
 is_available BOOLEAN NOT NULL,
@@ -30,7 +41,7 @@ CONSTRAINT fk_items_request FOREIGN KEY (request_id) REFERENCES requests(id) ON
 );
 
 CREATE TABLE IF NOT EXISTS bookings (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('bookings_seq') NOT NULL,
 start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 item_id BIGINT NOT NULL,
@@ -42,7 +53,7 @@ CONSTRAINT fk_booker FOREIGN KEY (booker_id) REFERENCES users(id) ON UPDATE CASC
 );
 
 CREATE TABLE IF NOT EXISTS comments (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('comments_seq') NOT NULL,
 text VARCHAR(500),
 item_id BIGINT NOT NULL,
 author_id BIGINT NOT NULL,
@@ -50,4 +61,16 @@ created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 CONSTRAINT pk_comment PRIMARY KEY (id),
 CONSTRAINT fk_comments_item FOREIGN KEY (item_id) REFERENCES items(item_id) ON UPDATE CASCADE ON DELETE CASCADE,
 CONSTRAINT fk_author FOREIGN KEY (author_id) REFERENCES users(id) ON UPDATE CASCADE ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_status ON bookings (booker_id, status, id);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_item_end ON bookings (booker_id, item_id, end_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_start ON bookings (item_id, status, start_date);
+CREATE INDEX IF NOT EXISTS idx_items_owner ON items (owner_id, item_id);
+CREATE INDEX IF NOT EXISTS idx_items_request ON items (request_id, item_id);
+CREATE INDEX IF NOT EXISTS idx_comments_item ON comments (item_id, id);
+CREATE INDEX IF NOT EXISTS idx_comments_author ON comments (author_id);
+CREATE INDEX IF NOT EXISTS idx_requests_requestor_created ON requests (requestor_id, created DESC);
+CREATE INDEX IF NOT EXISTS idx_requests_created ON requests (created DESC);
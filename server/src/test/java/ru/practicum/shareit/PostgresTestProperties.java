@@ -0,0 +1,21 @@
+package ru.practicum.shareit;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+public class PostgresTestProperties {
+    public static final String URL = "shareit.test.postgres-url";
+
+    private PostgresTestProperties() {
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        String url = System.getProperty(URL);
+        if (url == null || url.isBlank()) return;
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> System.getProperty("shareit.test.postgres-user", "shareit"));
+        registry.add("spring.datasource.password", () -> System.getProperty("shareit.test.postgres-password",
+                "shareit"));
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:schema.sql,classpath:schema-postgresql.sql");
+    }
+}
@@ -0,0 +1,160 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = PostgresTestProperties.URL, matches = ".+")
+class QueryPlanTest {
+    private static final String SELECT_BOOKING_DTO = "SELECT b.id, b.start_date, b.end_date, b.status, " +
+            "bk.id, bk.name, bk.email, i.item_id, i.name, i.description, i.is_available, i.request_id, " +
+            "o.id, o.name, o.email " +
+            "FROM bookings b JOIN users bk ON bk.id = b.booker_id JOIN items i ON i.item_id = b.item_id " +
+            "JOIN users o ON o.id = i.owner_id ";
+    private static final String NOW = "TIMESTAMP '2026-01-01 12:00:00'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestProperties.register(registry);
+    }
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("INSERT INTO users (id, name, email) " +
+                "SELECT g, 'user ' || g, 'user' || g || '@plans.test' FROM generate_series(1, 5000) g");
+        jdbcTemplate.execute("INSERT INTO requests (id, description, requestor_id, created) " +
+                "SELECT g, 'request ' || g, 1 + g % 5000, " + NOW + " - g * INTERVAL '1 minute' " +
+                "FROM generate_series(1, 20000) g");
+        jdbcTemplate.execute("INSERT INTO items (item_id, name, description, is_available, owner_id, request_id) " +
+                "SELECT g, 'item ' || g, 'description ' || g, g % 10 <> 0, 1 + g % 5000, " +
+                "CASE WHEN g % 5 = 0 THEN 1 + g % 20000 END FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "SELECT g, " + NOW + " + ((g - 1) / 50000 * 30 - 90) * INTERVAL '1 day', " +
+                NOW + " + ((g - 1) / 50000 * 30 - 88) * INTERVAL '1 day', 1 + (g - 1) % 50000, 1 + g * 7 % 5000, " +
+                "(ARRAY['APPROVED', 'WAITING', 'REJECTED', 'APPROVED'])[1 + g % 4] " +
+                "FROM generate_series(1, 300000) g");
+        jdbcTemplate.execute("INSERT INTO comments (id, text, item_id, author_id, created) " +
+                "SELECT g, 'comment ' || g, 1 + g % 50000, 1 + g % 5000, " + NOW + " " +
+                "FROM generate_series(1, 100000) g");
+        jdbcTemplate.execute("SET default_statistics_target = 1000; ANALYZE");
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("BookingRepository.findByBookingIdAndOwnerId",
+                        SELECT_BOOKING_DTO + "WHERE b.id = 1234 AND o.id = 1234"),
+                Arguments.of("BookingRepository.findAllByBookerId",
+                        SELECT_BOOKING_DTO + "WHERE bk.id = 42 ORDER BY b.start_date DESC, b.id DESC LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByBookerIdAndStatus",
+                        SELECT_BOOKING_DTO + "WHERE bk.id = 42 AND b.status = 'WAITING' ORDER BY b.id LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByBookerIdAndEndIsBefore",
+                        SELECT_BOOKING_DTO + "WHERE bk.id = 42 AND b.end_date < " + NOW +
+                                " ORDER BY b.start_date DESC, b.id DESC LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByBookerIdAndStartIsAfter",
+                        SELECT_BOOKING_DTO + "WHERE bk.id = 42 AND b.start_date > " + NOW +
+                                " ORDER BY b.start_date DESC, b.id DESC LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByBookerIdAndStartIsBeforeAndEndIsAfter",
+                        SELECT_BOOKING_DTO + "WHERE bk.id = 42 AND b.start_date < " + NOW +
+                                " AND b.end_date > " + NOW + " ORDER BY b.id LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByBookerIdAfterCursor",
+                        SELECT_BOOKING_DTO + "WHERE bk.id = 42 AND b.start_date <= " + NOW +
+                                " AND (b.start_date < " + NOW + " OR b.id < 100000)" +
+                                " ORDER BY b.start_date DESC, b.id DESC LIMIT 11"),
+                Arguments.of("BookingRepository.findAllByItemOwnerId",
+                        SELECT_BOOKING_DTO + "WHERE o.id = 42 ORDER BY b.start_date DESC, b.id DESC LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByItemOwnerIdAndStatus",
+                        SELECT_BOOKING_DTO + "WHERE o.id = 42 AND b.status = 'WAITING' ORDER BY b.id LIMIT 10"),
+                Arguments.of("BookingRepository.findByItemOwnerIdAndEndIsBefore",
+                        SELECT_BOOKING_DTO + "WHERE o.id = 42 AND b.end_date < " + NOW +
+                                " ORDER BY b.start_date DESC, b.id DESC LIMIT 10"),
+                Arguments.of("BookingRepository.findByItemOwnerIdAndStartIsAfter",
+                        SELECT_BOOKING_DTO + "WHERE o.id = 42 AND b.start_date > " + NOW +
+                                " ORDER BY b.start_date DESC, b.id DESC LIMIT 10"),
+                Arguments.of("BookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsAfter",
+                        SELECT_BOOKING_DTO + "WHERE o.id = 42 AND b.start_date < " + NOW +
+                                " AND b.end_date > " + NOW + " ORDER BY b.id LIMIT 10"),
+                Arguments.of("BookingRepository.findAllByItemOwnerIdAfterCursor",
+                        SELECT_BOOKING_DTO + "WHERE o.id = 42 AND b.id > 1000 ORDER BY b.id LIMIT 11"),
+                Arguments.of("BookingRepository.findAllByIdInAndOwnerId",
+                        SELECT_BOOKING_DTO + "WHERE b.id IN (10, 20, 30) AND o.id = 42"),
+                Arguments.of("BookingRepository.findFirstByBookerIdAndItemIdAndEndIsBefore",
+                        "SELECT b.id FROM bookings b WHERE b.booker_id = 42 AND b.item_id = 4242 " +
+                                "AND b.end_date < " + NOW + " LIMIT 1"),
+                Arguments.of("BookingRepository.findAllApprovedIntervalsByItemIds",
+                        "SELECT b.id, b.item_id, b.booker_id, b.start_date, b.end_date FROM bookings b " +
+                                "WHERE b.item_id IN (1, 2, 3, 4242) AND b.status = 'APPROVED'"),
+                Arguments.of("BookingRepository.findItemIdsByBookerId",
+                        "SELECT DISTINCT b.item_id FROM bookings b WHERE b.booker_id = 42"),
+                Arguments.of("ItemRepository.findIdsByOwnerId",
+                        "SELECT i.item_id FROM items i WHERE i.owner_id = 42"),
+                Arguments.of("ItemRepository.findIdsByRequestorId",
+                        "SELECT i.item_id FROM items i " +
+                                "WHERE i.request_id IN (SELECT r.id FROM requests r WHERE r.requestor_id = 42)"),
+                Arguments.of("ItemRepository.findById",
+                        "SELECT i.* FROM items i WHERE i.item_id = 4242"),
+                Arguments.of("ItemRepository.findItemsByOwnerId",
+                        "SELECT i.* FROM items i WHERE i.owner_id = 42 ORDER BY i.item_id LIMIT 10"),
+                Arguments.of("ItemRepository.findAvailableAfter",
+                        "SELECT i.*, o.* FROM items i JOIN users o ON o.id = i.owner_id " +
+                                "WHERE i.is_available AND i.item_id > 25000 ORDER BY i.item_id LIMIT 1000"),
+                Arguments.of("ItemRepository.findAllByRequestId",
+                        "SELECT i.*, o.* FROM items i LEFT JOIN users o ON o.id = i.owner_id " +
+                                "WHERE i.request_id = 4242 ORDER BY i.item_id"),
+                Arguments.of("ItemRepository.findAllByRequestIdIn",
+                        "SELECT i.*, o.* FROM items i LEFT JOIN users o ON o.id = i.owner_id " +
+                                "WHERE i.request_id IN (10, 20, 30, 4242) ORDER BY i.item_id"),
+                Arguments.of("ItemRepository.searchFullText",
+                        "SELECT i.* FROM items i, to_tsquery('simple', '4242:*') query " +
+                                "WHERE i.is_available = true AND i.search_vector @@ query " +
+                                "ORDER BY ts_rank(i.search_vector, query) DESC, i.item_id LIMIT 10"),
+                Arguments.of("CommentRepository.findAllByItemId",
+                        "SELECT c.*, a.* FROM comments c LEFT JOIN users a ON a.id = c.author_id " +
+                                "WHERE c.item_id = 4242"),
+                Arguments.of("CommentRepository.findIdsByAuthorId",
+                        "SELECT c.id FROM comments c WHERE c.author_id = 42"),
+                Arguments.of("CommentRepository.findIdsByItemIdIn",
+                        "SELECT c.id FROM comments c WHERE c.item_id IN (1, 2, 3, 4242)"),
+                Arguments.of("CommentRepository.findAllByItemIdIn",
+                        "SELECT c.*, a.* FROM comments c JOIN users a ON a.id = c.author_id " +
+                                "WHERE c.item_id IN (1, 2, 3, 4242) ORDER BY c.id"),
+                Arguments.of("RequestRepository.findAllByRequestorId",
+                        "SELECT r.* FROM requests r WHERE r.requestor_id = 42 ORDER BY r.created DESC"),
+                Arguments.of("RequestRepository.findAllByRequestorIdNot",
+                        "SELECT r.* FROM requests r WHERE r.requestor_id <> 42 ORDER BY r.created DESC " +
+                                "LIMIT 10 OFFSET 100"),
+                Arguments.of("RequestRepository.findIdsByRequestorId",
+                        "SELECT r.id FROM requests r WHERE r.requestor_id = 42"),
+                Arguments.of("RequestRepository.findExistingIds",
+                        "SELECT r.id FROM requests r WHERE r.id IN (10, 20, 30)"),
+                Arguments.of("UserRepository.findByEmail",
+                        "SELECT u.* FROM users u WHERE u.email = 'user42@plans.test'"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryDoesNotScanWholeTables(String query, String sql) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+
+        assertThat(plan)
+                .as("%s%n%s", query, String.join(System.lineSeparator(), plan))
+                .noneMatch(line -> line.contains("Seq Scan"));
+    }
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.booking;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.PostgresTestProperties;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = BookingInsertBenchmarkTest.ROWS, matches = "\\d+")
+class BookingInsertBenchmarkTest {
+    static final String ROWS = "shareit.test.benchmark-rows";
+    private static final int ITEMS = 1000;
+    private static final int FLUSH_EVERY = 1000;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final List<Long> itemIds = new ArrayList<>();
+    private Long bookerId;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestProperties.register(registry);
+    }
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.save(new User(null, "owner", "owner@insert-benchmark.test"));
+            bookerId = userRepository.save(new User(null, "booker", "booker@insert-benchmark.test")).getId();
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS; i++) {
+                items.add(new Item(null, "item " + i, "benchmark", true, owner, null));
+            }
+            itemRepository.saveAll(items).forEach(item -> itemIds.add(item.getId()));
+        });
+    }
+
+    @Test
+    void batchedInsertsBeatOneStatementPerRow() {
+        int rows = Integer.parseInt(System.getProperty(ROWS));
+
+        long unbatchedStatements = insertBookings(rows, 1);
+        long batchedStatements = insertBookings(rows, null);
+
+        assertThat(batchedStatements).isLessThan(unbatchedStatements / 10);
+    }
+
+    private long insertBookings(int rows, Integer jdbcBatchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < rows; i++) {
+                Booking booking = new Booking(null, start.plusHours(i), start.plusHours(i + 1),
+                        entityManager.getReference(Item.class, itemIds.get(i % ITEMS)),
+                        entityManager.getReference(User.class, bookerId), BookingStatus.WAITING);
+                entityManager.persist(booking);
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
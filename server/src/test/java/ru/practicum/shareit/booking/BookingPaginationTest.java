@@ -0,0 +1,101 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursorPage;
+import ru.practicum.shareit.booking.model.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.StateStatus;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingPaginationTest {
+    private static final int CURSOR_PAGE_SIZE = 3;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long ownerId;
+    private Long bookerId;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.save(new User(null, "owner", "owner@booking-pagination.test"));
+            User booker = userRepository.save(new User(null, "booker", "booker@booking-pagination.test"));
+            ownerId = owner.getId();
+            bookerId = booker.getId();
+            Item item = itemRepository.save(new Item(null, "item", "paged", true, owner, null));
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            BookingStatus[] statuses = BookingStatus.values();
+            List<Booking> bookings = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                LocalDateTime start = now.plusDays(i % 7 - 3).plusHours(i % 2);
+                bookings.add(new Booking(null, start, start.plusDays(i % 3 + 1), item, booker,
+                        statuses[i % statuses.length]));
+            }
+            bookingRepository.saveAll(bookings);
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(StateStatus.class)
+    void cursorPagesFollowTheOffsetOrderForBooker(StateStatus state) {
+        assertThat(walkCursor(cursor -> bookingService.getPageByBooker(bookerId, state.name(), cursor,
+                CURSOR_PAGE_SIZE)))
+                .isNotEmpty()
+                .isEqualTo(ids(bookingService.getAllByBooker(bookerId, state.name(), 0, 1000)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(StateStatus.class)
+    void cursorPagesFollowTheOffsetOrderForOwner(StateStatus state) {
+        assertThat(walkCursor(cursor -> bookingService.getPageByOwner(ownerId, state.name(), cursor,
+                CURSOR_PAGE_SIZE)))
+                .isNotEmpty()
+                .isEqualTo(ids(bookingService.getAllByOwner(ownerId, state.name(), 0, 1000)));
+    }
+
+    private List<Long> walkCursor(Function<String, BookingCursorPage> pages) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            BookingCursorPage page = pages.apply(cursor);
+            ids.addAll(ids(page.getBookings()));
+            cursor = page.getNext();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<Long> ids(Collection<BookingDto> bookings) {
+        return bookings.stream().map(BookingDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,141 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDtoIn;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.common.exeptions.ValidationException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingServiceConcurrencyTest {
+    private static final int HOT_ITEMS = 4;
+    private static final int BOOKINGS_PER_ITEM = 50;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long ownerId;
+    private Long bookerId;
+    private final List<Long> itemIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.save(new User(null, "owner", "owner@booking-concurrency.test"));
+            User booker = userRepository.save(new User(null, "booker", "booker@booking-concurrency.test"));
+            ownerId = owner.getId();
+            bookerId = booker.getId();
+            for (int i = 0; i < HOT_ITEMS; i++) {
+                itemIds.add(itemRepository.save(new Item(null, "hot item " + i, "popular", true, owner, null)).getId());
+            }
+        });
+    }
+
+    @Test
+    void concurrentApprovalsNeverOverlapOnAnItem() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        List<Callable<Long>> creates = new ArrayList<>();
+        for (int i = 0; i < HOT_ITEMS * BOOKINGS_PER_ITEM; i++) {
+            Long itemId = itemIds.get(i % HOT_ITEMS);
+            LocalDateTime bookingStart = start.plusHours(i % 3);
+            creates.add(() -> bookingService.create(bookerId,
+                    new BookingDtoIn(bookingStart, bookingStart.plusHours(2), itemId)).getId());
+        }
+        List<Long> bookingIds = runConcurrently(creates);
+        assertThat(bookingIds).hasSize(HOT_ITEMS * BOOKINGS_PER_ITEM).doesNotContainNull();
+
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Long>> approvals = bookingIds.stream()
+                .<Callable<Long>>map(bookingId -> () -> {
+                    try {
+                        return bookingService.update(ownerId, bookingId, true).getId();
+                    } catch (ValidationException e) {
+                        rejected.incrementAndGet();
+                        return null;
+                    }
+                })
+                .collect(Collectors.toList());
+        List<Long> approvedIds = runConcurrently(approvals).stream()
+                .filter(bookingId -> bookingId != null)
+                .collect(Collectors.toList());
+
+        Map<Long, List<Booking>> approvedByItem = new ConcurrentHashMap<>();
+        Set<Long> hotItems = Set.copyOf(itemIds);
+        bookingRepository.findAllById(approvedIds).forEach(booking -> {
+            assertThat(booking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+            approvedByItem.computeIfAbsent(booking.getItem().getId(), itemId -> new ArrayList<>()).add(booking);
+        });
+        assertThat(approvedByItem.keySet()).isEqualTo(hotItems);
+        approvedByItem.values().forEach(bookings -> {
+            for (int i = 0; i < bookings.size(); i++) {
+                for (int j = i + 1; j < bookings.size(); j++) {
+                    Booking left = bookings.get(i);
+                    Booking right = bookings.get(j);
+                    assertThat(left.getStart().isAfter(right.getEnd()) || right.getStart().isAfter(left.getEnd()))
+                            .as("bookings %d and %d overlap", left.getId(), right.getId())
+                            .isTrue();
+                }
+            }
+        });
+        assertThat(approvedIds.size() + rejected.get()).isEqualTo(bookingIds.size());
+    }
+
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return task.call();
+                }));
+            }
+            ready.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
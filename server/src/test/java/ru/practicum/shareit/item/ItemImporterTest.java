@@ -0,0 +1,141 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.model.ItemImportError;
+import ru.practicum.shareit.item.model.ItemImportResult;
+import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static ru.practicum.shareit.common.Constants.TEXT_CSV_VALUE;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemImporterTest {
+    private static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+
+    @Autowired
+    private ItemImporter itemImporter;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private ItemMapper itemMapper;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+    @Autowired
+    private ItemNameSuggester itemNameSuggester;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+
+    @BeforeAll
+    void createOwner() {
+        owner = userRepository.save(new User(null, "owner", "owner@item-import.test"));
+    }
+
+    @AfterAll
+    void deleteOwner() {
+        userService.delete(owner.getId());
+    }
+
+    @Test
+    void quotedValuesMaySpanLines() throws IOException {
+        ItemImportResult result = itemImporter.importItems(owner, TEXT_CSV, csv(
+                "name,description,available",
+                "Lantern,\"Camping lantern,",
+                "runs on \"\"AA\"\" batteries\",true",
+                "Stove,,true"));
+
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ItemImportError::getLine, ItemImportError::getError)
+                .containsExactly(tuple(4L, "Description must not be empty"));
+        assertThat(itemService.search("lantern", "like", 0, 10)).extracting(ItemDto::getDescription)
+                .containsExactly("Camping lantern,\nruns on \"AA\" batteries");
+    }
+
+    @Test
+    void invalidHeaderIsReportedOnItsLine() throws IOException {
+        ItemImportResult result = itemImporter.importItems(owner, TEXT_CSV, csv(
+                "",
+                "title,description",
+                "Compass,Pocket compass"));
+
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getErrors()).extracting(ItemImportError::getLine, ItemImportError::getError)
+                .containsExactly(tuple(2L, "CSV header must contain name, description and available columns"));
+    }
+
+    @Test
+    void failedBatchKeepsEarlierBatchesAndStopsTheImport() throws IOException {
+        ItemImporter importer = new ItemImporter(failingOnSecondSaveAll(), requestRepository, itemMapper,
+                itemSearchIndex, itemNameSuggester, objectMapper, transactionManager, 2);
+
+        ItemImportResult result = importer.importItems(owner, TEXT_CSV, csv(
+                "name,description,available",
+                "Hammock,Hammock,true",
+                "Tarp,Tarp,true",
+                "Cooler,Cooler,true",
+                "Kettle stand,Kettle stand,true",
+                "Thermos,Thermos,true"));
+
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ItemImportError::getLine, ItemImportError::getError)
+                .containsExactly(tuple(4L, "Not saved: items are locked"), tuple(5L, "Not saved: items are locked"));
+        assertThat(itemService.search("tarp", "like", 0, 10)).extracting(ItemDto::getName).containsExactly("Tarp");
+        assertThat(itemService.search("thermos", "like", 0, 10)).isEmpty();
+    }
+
+    private ItemRepository failingOnSecondSaveAll() {
+        AtomicInteger saveAllCalls = new AtomicInteger();
+        return (ItemRepository) Proxy.newProxyInstance(ItemRepository.class.getClassLoader(),
+                new Class<?>[]{ItemRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("saveAll") && saveAllCalls.incrementAndGet() == 2) {
+                        throw new DataIntegrityViolationException("items are locked");
+                    }
+                    try {
+                        return method.invoke(itemRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static ByteArrayInputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\r\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
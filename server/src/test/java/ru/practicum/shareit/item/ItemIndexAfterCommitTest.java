@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.model.BookingDtoIn;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.UserDto;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ItemIndexAfterCommitTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void itemIsIndexedOnlyAfterCommit() {
+        Long ownerId = userService.create(new UserDto(null, "owner", "owner@index-commit.test")).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.create(ownerId, new ItemDto(null, "Kayak", "Inflatable kayak", true,
+                    null, null, null, null));
+            assertThat(itemService.search("kayak", "index", 0, 10)).isEmpty();
+        });
+
+        assertThat(itemService.search("kayak", "index", 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Kayak");
+        assertThat(itemService.suggest("kay", 10)).containsExactly("Kayak");
+    }
+
+    @Test
+    void rolledBackItemIsNeverIndexed() {
+        Long ownerId = userService.create(new UserDto(null, "owner", "owner@index-rollback.test")).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.create(ownerId, new ItemDto(null, "Canoe", "Two seat canoe", true,
+                    null, null, null, null));
+            status.setRollbackOnly();
+        });
+
+        assertThat(itemService.search("canoe", "index", 0, 10)).isEmpty();
+        assertThat(itemService.suggest("can", 10)).isEmpty();
+    }
+
+    @Test
+    void rolledBackApprovalLeavesNoInterval() {
+        Long ownerId = userService.create(new UserDto(null, "owner", "owner@interval-rollback.test")).getId();
+        Long bookerId = userService.create(new UserDto(null, "booker", "booker@interval-rollback.test")).getId();
+        Long itemId = itemService.create(ownerId, new ItemDto(null, "Sled", "Wooden sled", true,
+                null, null, null, null)).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Long bookingId = bookingService.create(bookerId, new BookingDtoIn(start, start.plusDays(1), itemId)).getId();
+        bookingIntervalIndex.hasOverlap(itemId, start, start.plusDays(1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.update(ownerId, bookingId, true);
+            status.setRollbackOnly();
+        });
+
+        assertThat(bookingIntervalIndex.hasOverlap(itemId, start, start.plusDays(1))).isFalse();
+    }
+}
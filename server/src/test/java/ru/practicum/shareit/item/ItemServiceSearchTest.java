@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.UserDto;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemServiceSearchTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+
+    @BeforeAll
+    void seed() {
+        Long ownerId = userService.create(new UserDto(null, "owner", "owner@item-search.test")).getId();
+        itemService.create(ownerId, new ItemDto(null, "Drill", "Cordless hammer drill", true,
+                null, null, null, null));
+        itemService.create(ownerId, new ItemDto(null, "Ladder", "Aluminium step ladder", true,
+                null, null, null, null));
+        itemService.create(ownerId, new ItemDto(null, "Дрель", "Ударная дрель", true,
+                null, null, null, null));
+    }
+
+    @Test
+    void defaultModeMatchesSubstrings() {
+        assertThat(itemService.search("рель", null, 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Дрель");
+        assertThat(itemService.search("hammer drill", null, 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Drill");
+        assertThat(itemService.search("рель", "index", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void trigramModeFindsMisspelledNames() {
+        assertThat(itemService.search("drel", "trigram", 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Drill");
+        assertThat(itemService.search("дрел", "trigram", 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Дрель");
+    }
+
+    @Test
+    void fullTextModeFallsBackToIndexWithoutPostgres() {
+        assertThat(itemService.search("cordless", "full_text", 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Drill");
+    }
+
+    @Test
+    void availableSearchPagesThroughCandidates() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        LocalDateTime end = start.plusDays(2);
+
+        assertThat(itemService.getAvailable("a", start, end, 0, 1))
+                .extracting(ItemDto::getName)
+                .containsExactly("Ladder");
+        assertThat(itemService.getAvailable("a", start, end, 1, 1)).isEmpty();
+        assertThat(itemService.getAvailable("drill", start, end, 0, 10))
+                .extracting(ItemDto::getName)
+                .containsExactly("Drill");
+    }
+}
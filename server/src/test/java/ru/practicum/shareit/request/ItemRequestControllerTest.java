@@ -0,0 +1,64 @@
+package ru.practicum.shareit.request;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.request.model.ItemRequestDtoIn;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.UserDto;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.common.Constants.HEADER_USER_ID;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemRequestControllerTest {
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    private MockMvc mockMvc;
+    private Long requestorId;
+    private Long requestId;
+
+    @BeforeAll
+    void seed() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        requestorId = userService.create(new UserDto(null, "requestor", "requestor@request-controller.test")).getId();
+        Long ownerId = userService.create(new UserDto(null, "owner", "owner@request-controller.test")).getId();
+        requestId = itemRequestService.create(requestorId, new ItemRequestDtoIn("Need a ladder")).getId();
+        itemService.create(ownerId, new ItemDto(null, "Ladder", "Step ladder", true, requestId,
+                null, null, null));
+    }
+
+    @Test
+    void getByIdRendersItemOwnersFromTheCachedQuery() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/requests/{id}", requestId).header(HEADER_USER_ID, requestorId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].name").value("Ladder"))
+                    .andExpect(jsonPath("$.items[0].owner.name").value("owner"));
+        }
+    }
+
+    @Test
+    void getAllByUserRendersItemOwners() throws Exception {
+        mockMvc.perform(get("/requests").header(HEADER_USER_ID, requestorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].items[0].owner.name").value("owner"));
+    }
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.request;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestDto;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemRequestServiceQueryCountTest {
+    private static final int REQUESTS = 400;
+    private static final int ITEMS_PER_REQUEST = 3;
+    private static final int[] PAGE_SIZES = {10, 50, 100, 400};
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long readerId;
+    private Long requestorId;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User reader = userRepository.save(new User(null, "reader", "request-reader@query-count.test"));
+            User requestor = userRepository.save(new User(null, "requestor", "requestor@query-count.test"));
+            readerId = reader.getId();
+            requestorId = requestor.getId();
+            LocalDateTime created = LocalDateTime.now();
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                ItemRequest request = requestRepository.save(new ItemRequest(null, "request " + i, requestorId,
+                        created.minusMinutes(i), null));
+                for (int j = 0; j < ITEMS_PER_REQUEST; j++) {
+                    items.add(new Item(null, "item " + i + "-" + j, "answer", true, reader, request.getId()));
+                }
+            }
+            itemRepository.saveAll(items);
+        });
+    }
+
+    @Test
+    void getAllRunsTheSameNumberOfQueriesForEveryPageSize() {
+        Map<Integer, Long> statementsByPageSize = new LinkedHashMap<>();
+        for (int size : PAGE_SIZES) {
+            itemRequestService.getAll(readerId, 0, size);
+            Statistics statistics = statistics();
+            Collection<ItemRequestDto> page = itemRequestService.getAll(readerId, 0, size);
+            statementsByPageSize.put(size, statistics.getPrepareStatementCount());
+
+            assertThat(page).hasSize(size);
+            assertThat(page).allSatisfy(request -> assertThat(request.getItems()).hasSize(ITEMS_PER_REQUEST));
+        }
+
+        assertThat(statementsByPageSize.values()).containsOnly(statementsByPageSize.get(PAGE_SIZES[0]));
+        assertThat(statementsByPageSize.get(PAGE_SIZES[0])).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void getAllByUserRunsTheSameNumberOfQueriesAsASinglePage() {
+        itemRequestService.getAllByUser(requestorId);
+        Statistics statistics = statistics();
+        List<ItemRequestDto> requests = itemRequestService.getAllByUser(requestorId);
+
+        assertThat(requests).hasSize(REQUESTS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.model.BookingDto;
+import ru.practicum.shareit.booking.model.BookingDtoIn;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.model.ItemRequestDtoIn;
+import ru.practicum.shareit.user.model.UserDto;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserServiceCacheTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void renamedOwnerIsVisibleThroughCachedItems() {
+        Long ownerId = userService.create(new UserDto(null, "owner", "owner@user-cache.test")).getId();
+        Long bookerId = userService.create(new UserDto(null, "booker", "booker@user-cache.test")).getId();
+        Long itemId = itemService.create(ownerId, new ItemDto(null, "Tent", "Four person tent", true,
+                null, null, null, null)).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingDto first = bookingService.create(bookerId, new BookingDtoIn(start, start.plusDays(1), itemId));
+        assertThat(first.getItem().getOwner().getName()).isEqualTo("owner");
+
+        userService.update(ownerId, new UserDto(null, "RENAMED", null));
+        BookingDto second = bookingService.create(bookerId,
+                new BookingDtoIn(start.plusDays(3), start.plusDays(4), itemId));
+
+        assertThat(second.getItem().getOwner().getName()).isEqualTo("RENAMED");
+        assertThat(bookingService.getById(second.getId(), bookerId).getItem().getOwner().getName())
+                .isEqualTo("RENAMED");
+    }
+
+    @Test
+    void deletedUserEvictsOnlyTheCascadedRows() {
+        Long deletedId = userService.create(new UserDto(null, "deleted", "deleted@user-cache.test")).getId();
+        Long otherId = userService.create(new UserDto(null, "other", "other@user-cache.test")).getId();
+        Long ownedItemId = itemService.create(deletedId, new ItemDto(null, "Kettle", "Electric kettle", true,
+                null, null, null, null)).getId();
+        Long deletedRequestId = itemRequestService.create(deletedId, new ItemRequestDtoIn("Need a kettle")).getId();
+        Long answerItemId = itemService.create(otherId, new ItemDto(null, "Teapot", "Glass teapot", true,
+                deletedRequestId, null, null, null)).getId();
+        Long otherRequestId = itemRequestService.create(otherId, new ItemRequestDtoIn("Need a mug")).getId();
+        Long answeredByDeletedId = itemService.create(deletedId, new ItemDto(null, "Mug", "Tea mug", true,
+                otherRequestId, null, null, null)).getId();
+        Long otherItemId = itemService.create(otherId, new ItemDto(null, "Toaster", "Two slot toaster", true,
+                null, null, null, null)).getId();
+        for (Long itemId : new Long[]{ownedItemId, answerItemId, answeredByDeletedId, otherItemId}) {
+            itemService.getById(itemId, otherId);
+        }
+        assertThat(itemService.getItemsByRequestId(otherRequestId)).extracting(Item::getId)
+                .containsExactly(answeredByDeletedId);
+
+        userService.delete(deletedId);
+
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Item.class, ownedItemId)).isFalse();
+        assertThat(cache.contains(Item.class, answerItemId)).isFalse();
+        assertThat(cache.contains(Item.class, answeredByDeletedId)).isFalse();
+        assertThat(cache.contains(Item.class, otherItemId)).isTrue();
+        assertThat(itemService.getItemsByRequestId(otherRequestId)).isEmpty();
+        assertThat(itemService.search("teapot", "index", 0, 10)).isEmpty();
+
+        userService.delete(otherId);
+    }
+}